@@ -0,0 +1,57 @@
+// k6 load test for the authenticated read path and the login path.
+// Usage: k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform loadtest/auth-and-admin.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-arrival-rate',
+            exec: 'listUsers',
+            rate: Number(__ENV.READ_RATE || 2000),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '60s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+        logins: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: Number(__ENV.LOGIN_RATE || 50),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '60s',
+            preAllocatedVUs: 50,
+            maxVUs: 500,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: 'admin@todolist.com', password: 'admin123' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    return { token: res.json('token') };
+}
+
+export function listUsers(data) {
+    const res = http.get(`${BASE_URL}/api/admin/users?limit=50`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+        tags: { name: 'list-users' },
+    });
+    check(res, { 'list 200': (r) => r.status === 200 });
+}
+
+export function login() {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: 'john.doe@todolist.com', password: 'password123' }),
+        { headers: { 'Content-Type': 'application/json' }, tags: { name: 'login' } });
+    check(res, { 'login 200 or 429': (r) => r.status === 200 || r.status === 429 });
+}
+
+export function handleSummary(data) {
+    return { [`loadtest/results/summary-${MODE}.json`]: JSON.stringify(data, null, 2) };
+}
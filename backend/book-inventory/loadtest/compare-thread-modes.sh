@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# Runs the k6 scenario against the service in platform-thread and virtual-thread mode
+# and prints request rate and tail latency side by side.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+mkdir -p loadtest/results
+
+run_mode() {
+    local mode=$1 virtual=$2
+    SPRING_THREADS_VIRTUAL_ENABLED=$virtual ./gradlew -q bootRun > "loadtest/results/app-${mode}.log" 2>&1 &
+    local app_pid=$!
+    until curl -sf http://localhost:8080/actuator/health > /dev/null; do sleep 1; done
+    k6 run -q -e MODE="$mode" loadtest/auth-and-admin.js
+    kill "$app_pid"
+    wait "$app_pid" || true
+}
+
+run_mode platform false
+run_mode virtual true
+
+for mode in platform virtual; do
+    jq -r --arg mode "$mode" '
+        .metrics.http_reqs.values.rate as $rps
+        | .metrics.http_req_duration.values as $d
+        | "\($mode)\trps=\($rps | floor)\tp50=\($d["p(50)"])ms\tp95=\($d["p(95)"])ms\tp99=\($d["p(99)"])ms"' \
+        "loadtest/results/summary-${mode}.json"
+done
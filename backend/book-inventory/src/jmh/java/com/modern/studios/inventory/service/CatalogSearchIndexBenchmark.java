@@ -0,0 +1,79 @@
+package com.modern.studios.inventory.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.modern.studios.inventory.dto.TextbookDTO;
+
+/**
+ * Search latency over a generated 500k-title catalog. Sample-time mode reports the latency
+ * distribution, so the p0.99 line of each query is the figure to hold under 10 ms. The queries
+ * cover a common prefix, a multi-word title, an infix fragment, a course code and an author
+ * combined with a title word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class CatalogSearchIndexBenchmark {
+
+    private static final int TITLES = 500_000;
+    private static final int LIMIT = 100;
+    private static final String[] SUBJECTS = {
+            "Chemistry", "Biology", "Calculus", "Physics", "Economics", "Psychology", "Sociology", "Statistics",
+            "Accounting", "Microbiology", "Biochemistry", "Anthropology", "Linguistics", "Philosophy", "Geology",
+            "Astronomy", "Marketing", "Finance", "Algorithms", "Databases", "Networking", "Thermodynamics"};
+    private static final String[] QUALIFIERS = {
+            "Introduction to", "Principles of", "Fundamentals of", "Advanced", "Organic", "Applied", "Modern",
+            "Essentials of", "Foundations of", "Topics in", "Elementary", "Intermediate"};
+    private static final String[] SURNAMES = {
+            "Smith", "Johnson", "Nguyen", "Garcia", "Becker", "Okafor", "Kowalski", "Tanaka", "Dubois", "Rossi",
+            "Hernandez", "Andersen", "Silva", "Cohen", "Patel", "Kim"};
+    private static final String[] PUBLISHERS = {
+            "Pearson", "McGraw Hill", "Wiley", "Cengage", "Oxford University Press", "Springer", "Elsevier", "Norton"};
+    private static final String[] DEPARTMENTS = {"CHEM", "BIO", "MATH", "PHYS", "ECON", "PSY", "SOC", "STAT", "ACCT", "CS"};
+
+    @Param({"intro", "organic chemistry", "chem", "CHEM 101", "smith calc"})
+    public String query;
+
+    private CatalogSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<TextbookDTO> textbooks = new ArrayList<>(TITLES);
+        for (int i = 0; i < TITLES; i++) {
+            String title = pick(random, QUALIFIERS) + " " + pick(random, SUBJECTS)
+                    + (random.nextInt(3) == 0 ? " and " + pick(random, SUBJECTS) : "")
+                    + " Volume " + (i % 997);
+            String author = pick(random, SURNAMES) + ", " + pick(random, SURNAMES);
+            String courseCode = pick(random, DEPARTMENTS) + " " + random.nextInt(100, 500);
+            textbooks.add(new TextbookDTO(String.format("978%010d", i), title, author, pick(random, PUBLISHERS),
+                    (1 + random.nextInt(12)) + "th", courseCode, 0));
+        }
+
+        index = new CatalogSearchIndex();
+        index.putAll(textbooks);
+    }
+
+    @Benchmark
+    public List<TextbookDTO> search() {
+        return index.search(query, LIMIT);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,83 @@
+package com.modern.studios.inventory.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-item cost of pricing a new and a used copy. {@code floatPerCall} follows the README
+ * signatures with Float arithmetic, {@code bigDecimalPerCall} the exact decimal overloads and
+ * {@code longCentsPerCall} the integer path used by bulk repricing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PricingCalculatorBenchmark {
+
+    private static final int ITEMS = 1024;
+    private static final int MARKUP_BASIS_POINTS = 2500;
+    private static final int DEPRECIATION_BASIS_POINTS = 2500;
+    private static final BigDecimal MARKUP = PricingCalculator.fromBasisPoints(MARKUP_BASIS_POINTS);
+    private static final BigDecimal DEPRECIATION = PricingCalculator.fromBasisPoints(DEPRECIATION_BASIS_POINTS);
+
+    private float[] floatCosts;
+    private BigDecimal[] decimalCosts;
+    private long[] centCosts;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        floatCosts = new float[ITEMS];
+        decimalCosts = new BigDecimal[ITEMS];
+        centCosts = new long[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            long cents = random.nextLong(500, 40_000);
+            centCosts[i] = cents;
+            decimalCosts[i] = BigDecimal.valueOf(cents, 2);
+            floatCosts[i] = cents / 100f;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public float floatPerCall() {
+        float sum = 0;
+        for (float cost : floatCosts) {
+            float newPrice = Math.round(cost * (1 + 0.25f) * 100) / 100f;
+            sum += newPrice + Math.round(newPrice * (1 - 0.25f) * 100) / 100f;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public BigDecimal bigDecimalPerCall() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (BigDecimal cost : decimalCosts) {
+            BigDecimal newPrice = cost.multiply(BigDecimal.ONE.add(MARKUP)).setScale(2, RoundingMode.HALF_UP);
+            sum = sum.add(newPrice).add(newPrice.multiply(BigDecimal.ONE.subtract(DEPRECIATION)).setScale(2, RoundingMode.HALF_UP));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public long longCentsPerCall() {
+        long sum = 0;
+        for (long cost : centCosts) {
+            long newPrice = PricingCalculator.newRetailPriceCents(cost, MARKUP_BASIS_POINTS);
+            sum += newPrice + PricingCalculator.usedRetailPriceCents(newPrice, DEPRECIATION_BASIS_POINTS);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,99 @@
+package com.modern.studios.users.middleware;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import com.modern.studios.users.entity.User;
+import com.modern.studios.users.service.InMemoryTokenRevocationStore;
+import com.modern.studios.users.service.JwtService;
+import com.modern.studios.users.service.UserPrincipalCache;
+
+/**
+ * Requests per second through {@link JwtAuthenticationFilter} for an authenticated request,
+ * with each {@link PrincipalSource}. The user lookup returns a prebuilt user, so the database
+ * variant measures the filter's own work plus the lookup call, not a database round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET_KEY = "3cfa76ef14937c1c0ea519f8fc057a80fcd04a7420f8e8bcd0a7567c272e007b";
+    private static final long EXPIRATION = 3600000L;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"DATABASE", "CACHE", "CLAIMS"})
+    public PrincipalSource principalSource;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws ServletException, IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtService jwtService = new JwtService(SECRET_KEY, EXPIRATION, new InMemoryTokenRevocationStore(), meterRegistry);
+        User user = new User()
+                .setEmail("benchmark@todolist.com")
+                .setFirstName("Bench")
+                .setLastName("Mark")
+                .setPassword("unused");
+        // The id is generated on persist; without it the token carries no uid claim and the
+        // claims variant silently falls back to the user lookup
+        ReflectionTestUtils.setField(user, "id", "0b7c5d5e-6f1a-4c3e-9d2b-5f0e8a1c2d3e");
+        AtomicInteger lookups = new AtomicInteger();
+        UserDetailsService userDetailsService = username -> {
+            lookups.incrementAndGet();
+            return user;
+        };
+
+        filter = new JwtAuthenticationFilter(
+                jwtService,
+                userDetailsService,
+                new UserPrincipalCache(10_000, Duration.ofMinutes(5)),
+                (req, res, handler, ex) -> null,
+                principalSource,
+                meterRegistry);
+
+        request = new MockHttpServletRequest("GET", "/api/inventory/textbooks");
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(user));
+        response = new MockHttpServletResponse();
+
+        if (authenticate() == null) {
+            throw new IllegalStateException("The benchmark request is not authenticated");
+        }
+        if (principalSource == PrincipalSource.CLAIMS && lookups.get() > 0) {
+            throw new IllegalStateException("CLAIMS resolved the principal through the user lookup");
+        }
+    }
+
+    @Benchmark
+    public Object authenticate() throws ServletException, IOException {
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
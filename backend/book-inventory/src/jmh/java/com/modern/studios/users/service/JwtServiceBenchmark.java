@@ -0,0 +1,87 @@
+package com.modern.studios.users.service;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.modern.studios.users.entity.User;
+
+/**
+ * Measures how many tokens per second the authentication filter can verify.
+ * {@code rebuildKeyAndParserPerCall} reproduces the previous behaviour of decoding the key and
+ * building a new parser for every claim lookup, parsing the token once for the subject and twice
+ * more in {@code isTokenValid}. {@code parseOnceWithCachedParser} is the current filter path.
+ * The remaining benchmarks cover the public {@link JwtService} entry points on their own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET_KEY = "3cfa76ef14937c1c0ea519f8fc057a80fcd04a7420f8e8bcd0a7567c272e007b";
+    private static final long EXPIRATION = 3600000L;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET_KEY, EXPIRATION, new InMemoryTokenRevocationStore(), new SimpleMeterRegistry());
+        user = new User()
+                .setEmail("benchmark@todolist.com")
+                .setFirstName("Bench")
+                .setLastName("Mark")
+                .setPassword("unused");
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean rebuildKeyAndParserPerCall() {
+        String subject = legacyClaims(token).getSubject();
+        return subject.equals(user.getUsername())
+                && legacyClaims(token).getSubject().equals(user.getUsername())
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean parseOnceWithCachedParser() {
+        ParsedToken parsedToken = jwtService.parseToken(token);
+        return jwtService.isTokenValid(parsedToken, user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
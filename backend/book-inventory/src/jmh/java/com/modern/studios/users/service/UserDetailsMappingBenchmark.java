@@ -0,0 +1,59 @@
+package com.modern.studios.users.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.modern.studios.users.dto.admin.UserDetails;
+import com.modern.studios.users.dto.admin.UserSummary;
+import com.modern.studios.users.entity.User;
+
+/**
+ * Cost of mapping one full admin page of users to {@link UserDetails}. {@code fromEntities} is the
+ * mapping the former getAllUsers applied to loaded entities, {@code fromSummaries} the projection
+ * mapping {@link UserService#getUsersPage} applies today. Database time is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserDetailsMappingBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private List<User> users;
+    private List<UserSummary> summaries;
+
+    @Setup
+    public void setUp() {
+        users = new ArrayList<>(PAGE_SIZE);
+        summaries = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String email = "user" + i + "@todolist.com";
+            users.add(new User()
+                    .setEmail(email)
+                    .setFirstName("First" + i)
+                    .setLastName("Last" + i)
+                    .setPassword("unused"));
+            summaries.add(new UserSummary(String.valueOf(i), email, "First" + i, "Last" + i, new Date()));
+        }
+    }
+
+    @Benchmark
+    public List<UserDetails> fromEntities() {
+        return users.stream().map(UserDetails::new).toList();
+    }
+
+    @Benchmark
+    public List<UserDetails> fromSummaries() {
+        return summaries.stream().map(UserSummary::toUserDetails).toList();
+    }
+}
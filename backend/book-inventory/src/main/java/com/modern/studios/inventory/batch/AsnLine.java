@@ -0,0 +1,13 @@
+package com.modern.studios.inventory.batch;
+
+import java.math.BigDecimal;
+
+import com.modern.studios.inventory.entity.StockCondition;
+
+/**
+ * One line of a vendor advance shipping notice (ASN) file:
+ * {@code order_id,isbn,condition,quantity,unit_cost}, with its line number in the file.
+ */
+public record AsnLine(String orderId, String isbn, StockCondition condition, int quantity, BigDecimal unitCost,
+                      int lineNumber) {
+}
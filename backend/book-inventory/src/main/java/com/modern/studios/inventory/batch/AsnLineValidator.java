@@ -0,0 +1,38 @@
+package com.modern.studios.inventory.batch;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.batch.infrastructure.item.ItemProcessor;
+import org.springframework.batch.infrastructure.item.validator.ValidationException;
+
+import com.modern.studios.inventory.repository.TextbookRepository;
+
+/**
+ * Rejects ASN lines that cannot be received: titles missing from the catalog and quantities
+ * below one. A rejected line is skipped by the receiving step and reported, instead of
+ * failing the whole shipment. The titles found are remembered for the rest of the step.
+ */
+public class AsnLineValidator implements ItemProcessor<AsnLine, AsnLine> {
+
+    private final TextbookRepository textbookRepository;
+    private final Set<String> knownIsbns = new HashSet<>();
+
+    public AsnLineValidator(TextbookRepository textbookRepository) {
+        this.textbookRepository = textbookRepository;
+    }
+
+    @Override
+    public AsnLine process(AsnLine line) {
+        if (line.quantity() <= 0) {
+            throw new ValidationException("Quantity must be greater than 0");
+        }
+        if (!knownIsbns.contains(line.isbn())) {
+            if (!textbookRepository.existsById(line.isbn())) {
+                throw new ValidationException("Textbook not found with ISBN: " + line.isbn());
+            }
+            knownIsbns.add(line.isbn());
+        }
+        return line;
+    }
+}
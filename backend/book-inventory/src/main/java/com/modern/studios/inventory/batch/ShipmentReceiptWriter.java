@@ -0,0 +1,83 @@
+package com.modern.studios.inventory.batch;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+
+import com.modern.studios.inventory.event.InventoryChangeEvent;
+import com.modern.studios.inventory.event.InventoryChangeType;
+import com.modern.studios.inventory.repository.OutboxRepository;
+import com.modern.studios.inventory.repository.PurchaseOrderRepository;
+import com.modern.studios.inventory.repository.ShipmentLedgerRepository;
+import com.modern.studios.inventory.repository.StockRepository;
+
+/**
+ * Applies a chunk of ASN lines. Lines are first folded per (isbn, condition) and per
+ * (order, isbn) so a chunk costs one JDBC batch of stock upserts and one batch of
+ * purchase order line updates, however many lines repeat the same title. Keys are
+ * written in sorted order so concurrent jobs lock rows in the same order. One RECEIPT
+ * event per stock row is appended to the outbox in the chunk transaction. Lines are first
+ * recorded in the shipment ledger under the ASN id; lines an earlier upload of the same ASN
+ * already received are reported and not applied again.
+ */
+public class ShipmentReceiptWriter implements ItemWriter<AsnLine> {
+
+    private final StockRepository stockRepository;
+    private final PurchaseOrderRepository purchaseOrderRepository;
+    private final OutboxRepository outboxRepository;
+    private final ShipmentLedgerRepository shipmentLedgerRepository;
+    private final ShipmentRejections rejections;
+    private final String asnId;
+
+    public ShipmentReceiptWriter(StockRepository stockRepository,
+                                 PurchaseOrderRepository purchaseOrderRepository,
+                                 OutboxRepository outboxRepository,
+                                 ShipmentLedgerRepository shipmentLedgerRepository,
+                                 ShipmentRejections rejections,
+                                 String asnId) {
+        this.stockRepository = stockRepository;
+        this.purchaseOrderRepository = purchaseOrderRepository;
+        this.outboxRepository = outboxRepository;
+        this.shipmentLedgerRepository = shipmentLedgerRepository;
+        this.rejections = rejections;
+        this.asnId = asnId;
+    }
+
+    @Override
+    public void write(Chunk<? extends AsnLine> lines) {
+        Set<Integer> newLines = shipmentLedgerRepository.claimLines(asnId, lines.getItems());
+        Map<String, StockReceipt> receiptsByStockRow = new TreeMap<>();
+        Map<String, Integer> receivedByOrderLine = new TreeMap<>();
+
+        for (AsnLine line : lines) {
+            if (!newLines.contains(line.lineNumber())) {
+                rejections.alreadyReceived(line);
+                continue;
+            }
+            if (line.quantity() <= 0) {
+                continue;
+            }
+
+            BigDecimal lineCost = line.unitCost().multiply(BigDecimal.valueOf(line.quantity()));
+            receiptsByStockRow.merge(
+                    line.isbn() + ':' + line.condition(),
+                    new StockReceipt(line.isbn(), line.condition(), line.quantity(), lineCost),
+                    (existing, added) -> existing.add(added.quantity(), added.totalCost()));
+            receivedByOrderLine.merge(line.orderId() + ':' + line.isbn(), line.quantity(), Integer::sum);
+        }
+
+        stockRepository.receive(receiptsByStockRow.values());
+        purchaseOrderRepository.recordReceived(receivedByOrderLine);
+
+        List<InventoryChangeEvent> events = receiptsByStockRow.values().stream()
+                .map(receipt -> InventoryChangeEvent.of(
+                        InventoryChangeType.RECEIPT, receipt.isbn(), receipt.condition(), receipt.quantity(), null))
+                .toList();
+        outboxRepository.append(events);
+    }
+}
@@ -0,0 +1,92 @@
+package com.modern.studios.inventory.batch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.batch.core.listener.SkipListener;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStream;
+import org.springframework.batch.infrastructure.item.file.FlatFileParseException;
+
+/**
+ * Reports the ASN lines that were not received: one {@code line,reason} line per line in a
+ * file next to the input. As with user imports, the length of the file is saved in the step
+ * execution context with each chunk and the file truncated back to it on a restart.
+ */
+public class ShipmentRejections implements SkipListener<AsnLine, AsnLine>, ItemStream {
+
+    public static final String ALREADY_RECEIVED_REASON = "The line was already received with this ASN.";
+
+    private static final String POSITION_KEY = "shipmentRejections.position";
+
+    private final Path rejectionsFile;
+
+    public ShipmentRejections(Path inputFile) {
+        this.rejectionsFile = fileFor(inputFile);
+    }
+
+    /**
+     * @param inputFile The ASN file being received
+     * @return The file the rejected lines of that shipment are reported in
+     */
+    public static Path fileFor(Path inputFile) {
+        return inputFile.resolveSibling(inputFile.getFileName() + ".rejections.csv");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        try (FileChannel channel = FileChannel.open(rejectionsFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(executionContext.getLong(POSITION_KEY, 0));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open the shipment rejections file", e);
+        }
+    }
+
+    @Override
+    public synchronized void update(ExecutionContext executionContext) {
+        try {
+            executionContext.putLong(POSITION_KEY, Files.size(rejectionsFile));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the shipment rejections file", e);
+        }
+    }
+
+    public void alreadyReceived(AsnLine line) {
+        reject(line.lineNumber(), ALREADY_RECEIVED_REASON);
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        if (t instanceof FlatFileParseException parseException) {
+            // The cause is the invalid ISBN, condition or number the line was mapped from
+            Throwable cause = parseException.getCause();
+            reject(parseException.getLineNumber(), cause != null ? cause.getMessage() : "The line could not be parsed.");
+        } else {
+            reject(0, t.getMessage());
+        }
+    }
+
+    @Override
+    public void onSkipInProcess(AsnLine line, Throwable t) {
+        reject(line.lineNumber(), t.getMessage());
+    }
+
+    @Override
+    public void onSkipInWrite(AsnLine line, Throwable t) {
+        reject(line.lineNumber(), t.getMessage());
+    }
+
+    private synchronized void reject(int lineNumber, String reason) {
+        String quotedReason = '"' + String.valueOf(reason).replace("\"", "\"\"") + '"';
+        try {
+            Files.writeString(rejectionsFile, lineNumber + "," + quotedReason + '\n',
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write the shipment rejections file", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.modern.studios.inventory.batch;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.modern.studios.inventory.entity.StockCondition;
+
+/**
+ * Copies of one (isbn, condition) received within a chunk, with the total invoice cost
+ * used to fold them into the weighted-average cost of the stock row.
+ */
+public record StockReceipt(String isbn, StockCondition condition, int quantity, BigDecimal totalCost) {
+
+    public StockReceipt add(int moreQuantity, BigDecimal moreCost) {
+        return new StockReceipt(isbn, condition, quantity + moreQuantity, totalCost.add(moreCost));
+    }
+
+    public BigDecimal unitCost() {
+        return totalCost.divide(BigDecimal.valueOf(quantity), 4, RoundingMode.HALF_UP);
+    }
+}
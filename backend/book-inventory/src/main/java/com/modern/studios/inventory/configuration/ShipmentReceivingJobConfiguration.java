@@ -0,0 +1,144 @@
+package com.modern.studios.inventory.configuration;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.item.file.FlatFileItemReader;
+import org.springframework.batch.infrastructure.item.file.FlatFileParseException;
+import org.springframework.batch.infrastructure.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.infrastructure.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.infrastructure.item.file.transform.FieldSet;
+import org.springframework.batch.infrastructure.item.validator.ValidationException;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.modern.studios.inventory.batch.AsnLine;
+import com.modern.studios.inventory.batch.AsnLineValidator;
+import com.modern.studios.inventory.batch.ShipmentReceiptWriter;
+import com.modern.studios.inventory.batch.ShipmentRejections;
+import com.modern.studios.inventory.entity.StockCondition;
+import com.modern.studios.inventory.repository.OutboxRepository;
+import com.modern.studios.inventory.repository.PurchaseOrderRepository;
+import com.modern.studios.inventory.repository.ShipmentLedgerRepository;
+import com.modern.studios.inventory.repository.StockRepository;
+import com.modern.studios.inventory.repository.TextbookRepository;
+import com.modern.studios.inventory.service.Isbn;
+
+/**
+ * Batch job that receives a vendor shipment from an ASN file. The first step reads the
+ * file in chunks and applies each chunk as JDBC batches in one transaction, committing
+ * the reader position with it so a failed run restarts after the last committed chunk.
+ * Lines with an invalid ISBN, condition or quantity, or a title missing from the catalog,
+ * are skipped and reported instead of failing the shipment, and every received line is
+ * recorded under its ASN id so a corrected upload of the same ASN does not receive it twice.
+ * The second step closes the purchase orders the shipment filled.
+ */
+@Configuration
+public class ShipmentReceivingJobConfiguration {
+
+    public static final String JOB_NAME = "shipmentReceivingJob";
+    public static final String INPUT_FILE_PARAMETER = "input.file";
+    public static final String ASN_ID_PARAMETER = "asn.id";
+
+    private static final String[] ASN_FIELDS = { "orderId", "isbn", "condition", "quantity", "unitCost" };
+
+    @Bean
+    public Job shipmentReceivingJob(JobRepository jobRepository,
+                                    Step receiveShipmentLinesStep,
+                                    Step closePurchaseOrdersStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(receiveShipmentLinesStep)
+                .next(closePurchaseOrdersStep)
+                .build();
+    }
+
+    @Bean
+    public Step receiveShipmentLinesStep(JobRepository jobRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         FlatFileItemReader<AsnLine> asnLineReader,
+                                         AsnLineValidator asnLineValidator,
+                                         ShipmentReceiptWriter shipmentReceiptWriter,
+                                         ShipmentRejections shipmentRejections,
+                                         @Value("${inventory.shipments.chunk-size:500}") int chunkSize) {
+        return new StepBuilder("receiveShipmentLines", jobRepository)
+                .<AsnLine, AsnLine>chunk(chunkSize, transactionManager)
+                .reader(asnLineReader)
+                .processor(asnLineValidator)
+                .writer(shipmentReceiptWriter)
+                .faultTolerant()
+                .skipPolicy((t, skipCount) -> t instanceof ValidationException || t instanceof FlatFileParseException)
+                .listener(shipmentRejections)
+                .stream(shipmentRejections)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public FlatFileItemReader<AsnLine> asnLineReader(@Value("#{jobParameters['" + INPUT_FILE_PARAMETER + "']}") String inputFile) {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        tokenizer.setNames(ASN_FIELDS);
+        // Mapping failures, such as an invalid ISBN or condition, surface as skippable parse errors
+        return new FlatFileItemReaderBuilder<AsnLine>()
+                .name("asnLineReader")
+                .resource(new FileSystemResource(inputFile))
+                .linesToSkip(1)
+                .lineMapper((line, lineNumber) -> asnLine(tokenizer.tokenize(line), lineNumber))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public AsnLineValidator asnLineValidator(TextbookRepository textbookRepository) {
+        return new AsnLineValidator(textbookRepository);
+    }
+
+    @Bean
+    @StepScope
+    public ShipmentRejections shipmentRejections(@Value("#{jobParameters['" + INPUT_FILE_PARAMETER + "']}") String inputFile) {
+        return new ShipmentRejections(Path.of(inputFile));
+    }
+
+    @Bean
+    @StepScope
+    public ShipmentReceiptWriter shipmentReceiptWriter(StockRepository stockRepository,
+                                                       PurchaseOrderRepository purchaseOrderRepository,
+                                                       OutboxRepository outboxRepository,
+                                                       ShipmentLedgerRepository shipmentLedgerRepository,
+                                                       ShipmentRejections shipmentRejections,
+                                                       @Value("#{jobParameters['" + ASN_ID_PARAMETER + "']}") String asnId) {
+        return new ShipmentReceiptWriter(stockRepository, purchaseOrderRepository, outboxRepository,
+                shipmentLedgerRepository, shipmentRejections, asnId);
+    }
+
+    @Bean
+    public Step closePurchaseOrdersStep(JobRepository jobRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        PurchaseOrderRepository purchaseOrderRepository) {
+        return new StepBuilder("closePurchaseOrders", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(purchaseOrderRepository.closeReceivedOrders());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    private static AsnLine asnLine(FieldSet fieldSet, int lineNumber) {
+        return new AsnLine(
+                fieldSet.readString("orderId"),
+                Isbn.normalize(fieldSet.readString("isbn")),
+                StockCondition.valueOf(fieldSet.readString("condition").toUpperCase()),
+                fieldSet.readInt("quantity"),
+                fieldSet.readBigDecimal("unitCost", BigDecimal.ZERO),
+                lineNumber);
+    }
+}
@@ -0,0 +1,33 @@
+package com.modern.studios.inventory.configuration;
+
+import java.time.Duration;
+
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.KTable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+import tools.jackson.databind.json.JsonMapper;
+
+import com.modern.studios.inventory.stream.StockLevelTopology;
+import com.modern.studios.inventory.stream.StockLevels;
+
+/**
+ * Runs the stock level topology inside the application so level lookups can be served
+ * from the local state store.
+ */
+@Configuration
+@EnableKafkaStreams
+@ConditionalOnProperty(name = "inventory.stock-view.enabled", havingValue = "true")
+public class StockLevelStreamsConfiguration {
+
+    @Bean
+    public KTable<String, StockLevels> stockLevelTable(StreamsBuilder streamsBuilder,
+                                                       JsonMapper jsonMapper,
+                                                       @Value("${inventory.outbox.topic:inventory-changes}") String topic,
+                                                       @Value("${inventory.stock-view.dedup-window:1h}") Duration dedupWindow) {
+        return StockLevelTopology.build(streamsBuilder, topic, jsonMapper, dedupWindow);
+    }
+}
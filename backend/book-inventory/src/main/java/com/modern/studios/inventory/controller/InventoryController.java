@@ -0,0 +1,147 @@
+package com.modern.studios.inventory.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import com.modern.studios.inventory.dto.BasketReceiptDTO;
+import com.modern.studios.inventory.dto.BasketRequestDTO;
+import com.modern.studios.inventory.dto.ConversionRequestDTO;
+import com.modern.studios.inventory.dto.CustomerReturnDTO;
+import com.modern.studios.inventory.dto.InventoryLevelDTO;
+import com.modern.studios.inventory.dto.LowStockItemDTO;
+import com.modern.studios.inventory.dto.ReturnReceiptDTO;
+import com.modern.studios.inventory.dto.SaleReceiptDTO;
+import com.modern.studios.inventory.dto.SaleRequestDTO;
+import com.modern.studios.inventory.entity.StockCondition;
+import com.modern.studios.inventory.exception.InvalidStockConditionException;
+import com.modern.studios.inventory.service.BasketService;
+import com.modern.studios.inventory.service.LowStockService;
+import com.modern.studios.inventory.service.StockLevelViewService;
+import com.modern.studios.inventory.service.StockService;
+
+@RestController
+@RequestMapping("/api/inventory")
+public class InventoryController {
+
+    private static final String ALL_CONDITIONS = "ALL";
+
+    private final StockService stockService;
+    private final StockLevelViewService stockLevelViewService;
+    private final LowStockService lowStockService;
+    private final BasketService basketService;
+
+    public InventoryController(StockService stockService,
+                               StockLevelViewService stockLevelViewService,
+                               LowStockService lowStockService,
+                               BasketService basketService) {
+        this.stockService = stockService;
+        this.stockLevelViewService = stockLevelViewService;
+        this.lowStockService = lowStockService;
+        this.basketService = basketService;
+    }
+
+    /**
+     * Records a sale and decrements stock
+     * @param saleRequestDTO - The ISBN, condition and quantity sold
+     * @return ResponseEntity containing the sale receipt
+     */
+    @PostMapping("/sales")
+    public ResponseEntity<SaleReceiptDTO> processSale(@Valid @RequestBody SaleRequestDTO saleRequestDTO) {
+        return ResponseEntity.ok(stockService.processSale(saleRequestDTO));
+    }
+
+    /**
+     * Sells every line of a register basket atomically; retries with the same key return the original receipt
+     * @param idempotencyKey - Client key identifying the submission
+     * @param basketRequestDTO - The ISBN, condition and quantity of each line
+     * @return ResponseEntity containing the basket receipt
+     */
+    @PostMapping("/baskets")
+    public ResponseEntity<BasketReceiptDTO> processBasket(@RequestHeader("Idempotency-Key") String idempotencyKey,
+                                                          @Valid @RequestBody BasketRequestDTO basketRequestDTO) {
+        return ResponseEntity.ok(basketService.processBasket(idempotencyKey, basketRequestDTO));
+    }
+
+    /**
+     * Returns copies of an earlier sale to stock
+     * @param customerReturnDTO - The sales transaction and quantity returned
+     * @return ResponseEntity containing the return receipt
+     */
+    @PostMapping("/returns")
+    public ResponseEntity<ReturnReceiptDTO> processCustomerReturn(@Valid @RequestBody CustomerReturnDTO customerReturnDTO) {
+        return ResponseEntity.ok(stockService.processCustomerReturn(customerReturnDTO));
+    }
+
+    /**
+     * Reclassifies NEW copies of a textbook as USED
+     * @param conversionRequestDTO - The ISBN and quantity to convert
+     * @return ResponseEntity containing the USED inventory level
+     */
+    @PostMapping("/conversions")
+    public ResponseEntity<InventoryLevelDTO> convertNewToUsed(@Valid @RequestBody ConversionRequestDTO conversionRequestDTO) {
+        return ResponseEntity.ok(stockService.convertNewToUsed(conversionRequestDTO));
+    }
+
+    /**
+     * Retrieves the quantity on hand of a textbook
+     * @param isbn - The ISBN of the textbook
+     * @param condition - NEW, USED or ALL
+     * @return ResponseEntity containing the inventory level
+     */
+    @GetMapping("/stock/{isbn}")
+    public ResponseEntity<InventoryLevelDTO> getInventoryLevel(@PathVariable("isbn") String isbn,
+                                                               @RequestParam(value = "condition", defaultValue = ALL_CONDITIONS) String condition) {
+        return ResponseEntity.ok(stockService.getInventoryLevel(isbn, parseCondition(condition)));
+    }
+
+    /**
+     * Retrieves the quantity on hand of a textbook from the streamed inventory view
+     * @param isbn - The ISBN of the textbook
+     * @param condition - NEW, USED or ALL
+     * @return ResponseEntity containing the inventory level
+     */
+    @GetMapping("/stock-view/{isbn}")
+    public ResponseEntity<InventoryLevelDTO> getInventoryLevelView(@PathVariable("isbn") String isbn,
+                                                                   @RequestParam(value = "condition", defaultValue = ALL_CONDITIONS) String condition) {
+        return ResponseEntity.ok(stockLevelViewService.getInventoryLevel(isbn, parseCondition(condition)));
+    }
+
+    /**
+     * Lists the textbooks that have fallen below their minimum threshold
+     * @return ResponseEntity containing the ISBNs requiring reordering
+     */
+    @GetMapping("/reorder-thresholds")
+    public ResponseEntity<List<String>> checkReorderThresholds() {
+        return ResponseEntity.ok(lowStockService.checkReorderThresholds());
+    }
+
+    /**
+     * Lists the stock rows below their minimum threshold with their current quantities
+     * @return ResponseEntity containing the low stock report
+     */
+    @GetMapping("/low-stock")
+    public ResponseEntity<List<LowStockItemDTO>> getLowStockReport() {
+        return ResponseEntity.ok(lowStockService.getLowStockReport());
+    }
+
+    private static StockCondition parseCondition(String condition) {
+        if (ALL_CONDITIONS.equalsIgnoreCase(condition)) {
+            return null;
+        }
+        try {
+            return StockCondition.valueOf(condition.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidStockConditionException("Condition must be NEW, USED or ALL: " + condition);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.modern.studios.inventory.controller;
+
+import java.math.BigDecimal;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import com.modern.studios.inventory.dto.PricingPolicyDTO;
+import com.modern.studios.inventory.dto.RepricingResultDTO;
+import com.modern.studios.inventory.service.PricingService;
+
+@RestController
+@RequestMapping("/api/inventory/pricing")
+public class PricingController {
+
+    private final PricingService pricingService;
+
+    public PricingController(PricingService pricingService) {
+        this.pricingService = pricingService;
+    }
+
+    /**
+     * Calculates the retail price of a new textbook
+     * @param invoiceCost - The wholesale cost of the book
+     * @param markupPercentage - The markup rate, e.g. 0.25 for 25%
+     * @return ResponseEntity containing the retail price
+     */
+    @GetMapping("/new-retail-price")
+    public ResponseEntity<BigDecimal> calculateNewRetailPrice(@RequestParam("invoiceCost") BigDecimal invoiceCost,
+                                                              @RequestParam("markupPercentage") BigDecimal markupPercentage) {
+        return ResponseEntity.ok(pricingService.calculateNewRetailPrice(invoiceCost, markupPercentage));
+    }
+
+    /**
+     * Calculates the retail price of a used textbook
+     * @param newRetailPrice - The shelf price of a new copy
+     * @param depreciationRate - The discount off the new price, e.g. 0.25 for 25% off
+     * @return ResponseEntity containing the used retail price
+     */
+    @GetMapping("/used-retail-price")
+    public ResponseEntity<BigDecimal> calculateUsedRetailPrice(@RequestParam("newRetailPrice") BigDecimal newRetailPrice,
+                                                               @RequestParam("depreciationRate") BigDecimal depreciationRate) {
+        return ResponseEntity.ok(pricingService.calculateUsedRetailPrice(newRetailPrice, depreciationRate));
+    }
+
+    /**
+     * Retrieves the store pricing policy
+     * @return ResponseEntity containing the markup and depreciation rates
+     */
+    @GetMapping("/policy")
+    public ResponseEntity<PricingPolicyDTO> getPolicy() {
+        return ResponseEntity.ok(pricingService.getPolicy());
+    }
+
+    /**
+     * Replaces the store pricing policy; affected titles are repriced on the next run
+     * @param pricingPolicyDTO - The new markup and depreciation rates
+     * @return ResponseEntity containing the stored policy
+     */
+    @PutMapping("/policy")
+    public ResponseEntity<PricingPolicyDTO> updatePolicy(@Valid @RequestBody PricingPolicyDTO pricingPolicyDTO) {
+        return ResponseEntity.ok(pricingService.updatePolicy(pricingPolicyDTO));
+    }
+
+    /**
+     * Reprices every title whose cost or policy changed since it was last priced
+     * @return ResponseEntity containing the number of titles repriced
+     */
+    @PostMapping("/reprice")
+    public ResponseEntity<RepricingResultDTO> repriceCatalog() {
+        return ResponseEntity.ok(pricingService.repriceCatalog());
+    }
+}
@@ -0,0 +1,56 @@
+package com.modern.studios.inventory.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import com.modern.studios.inventory.dto.PlaceOrderDTO;
+import com.modern.studios.inventory.dto.PurchaseOrderDTO;
+import com.modern.studios.inventory.dto.ReorderSuggestionDTO;
+import com.modern.studios.inventory.service.ReorderService;
+
+@RestController
+@RequestMapping("/api/inventory/purchase-orders")
+public class PurchaseOrderController {
+
+    private final ReorderService reorderService;
+
+    public PurchaseOrderController(ReorderService reorderService) {
+        this.reorderService = reorderService;
+    }
+
+    /**
+     * Orders copies of a textbook from a vendor
+     * @param placeOrderDTO - The ISBN, vendor and quantity to order
+     * @return ResponseEntity containing the created purchase order
+     */
+    @PostMapping
+    public ResponseEntity<PurchaseOrderDTO> placeTextbookOrder(@Valid @RequestBody PlaceOrderDTO placeOrderDTO) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(reorderService.placeTextbookOrder(placeOrderDTO));
+    }
+
+    /**
+     * Sizes reorders for the low-stock titles without placing them
+     * @return ResponseEntity containing the reorder suggestions
+     */
+    @GetMapping("/reorder-suggestions")
+    public ResponseEntity<List<ReorderSuggestionDTO>> suggestReorders() {
+        return ResponseEntity.ok(reorderService.suggestReorders());
+    }
+
+    /**
+     * Places one purchase order per vendor for the low-stock titles
+     * @return ResponseEntity containing the created purchase orders
+     */
+    @PostMapping("/reorders")
+    public ResponseEntity<List<PurchaseOrderDTO>> placeReorders() {
+        return ResponseEntity.status(HttpStatus.CREATED).body(reorderService.placeReorders());
+    }
+}
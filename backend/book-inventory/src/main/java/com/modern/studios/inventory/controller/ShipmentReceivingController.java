@@ -0,0 +1,35 @@
+package com.modern.studios.inventory.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.modern.studios.inventory.dto.ShipmentReceivingResultDTO;
+import com.modern.studios.inventory.service.ShipmentReceivingService;
+
+@RestController
+@RequestMapping("/api/inventory/shipments")
+public class ShipmentReceivingController {
+
+    private final ShipmentReceivingService shipmentReceivingService;
+
+    public ShipmentReceivingController(ShipmentReceivingService shipmentReceivingService) {
+        this.shipmentReceivingService = shipmentReceivingService;
+    }
+
+    /**
+     * Receives a vendor shipment from an ASN file
+     * @param file - CSV file with the header order_id,isbn,condition,quantity,unit_cost
+     * @param asnId - Id of the advance shipping notice, defaults to the name of the uploaded file
+     * @return ResponseEntity containing the outcome of the receiving job
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ShipmentReceivingResultDTO> receiveShipment(@RequestParam("file") MultipartFile file,
+                                                                      @RequestParam(value = "asnId", required = false) String asnId) {
+        return ResponseEntity.ok(shipmentReceivingService.receiveShipment(file, asnId));
+    }
+}
@@ -0,0 +1,84 @@
+package com.modern.studios.inventory.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import com.modern.studios.inventory.dto.CourseCodeDTO;
+import com.modern.studios.inventory.dto.NewTextbookDTO;
+import com.modern.studios.inventory.dto.TextbookDTO;
+import com.modern.studios.inventory.service.TextbookCatalogService;
+
+@RestController
+@RequestMapping("/api/inventory/textbooks")
+public class TextbookCatalogController {
+
+    private final TextbookCatalogService textbookCatalogService;
+
+    public TextbookCatalogController(TextbookCatalogService textbookCatalogService) {
+        this.textbookCatalogService = textbookCatalogService;
+    }
+
+    /**
+     * Adds a new title to the catalog
+     * @param newTextbookDTO - The textbook to add
+     * @return ResponseEntity containing the created textbook
+     */
+    @PostMapping
+    public ResponseEntity<TextbookDTO> addNewTextbookEntry(@Valid @RequestBody NewTextbookDTO newTextbookDTO) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(textbookCatalogService.addNewTextbookEntry(newTextbookDTO));
+    }
+
+    /**
+     * Retrieves a textbook by ISBN
+     * @param isbn - ISBN-10 or ISBN-13, with or without separators
+     * @return ResponseEntity containing the textbook
+     */
+    @GetMapping("/{isbn}")
+    public ResponseEntity<TextbookDTO> getTextbook(@PathVariable("isbn") String isbn) {
+        return ResponseEntity.ok(textbookCatalogService.getTextbook(isbn));
+    }
+
+    /**
+     * Searches the catalog by title, author, publisher, course code or ISBN; each word may be a prefix or a fragment
+     * @param query - The text to search for
+     * @return ResponseEntity containing the matching textbooks
+     */
+    @GetMapping
+    public ResponseEntity<List<TextbookDTO>> searchTextbooks(@RequestParam("q") String query) {
+        return ResponseEntity.ok(textbookCatalogService.searchTextbooks(query));
+    }
+
+    /**
+     * Sets the vendor a textbook is reordered from
+     * @param isbn - The ISBN of the textbook
+     * @param vendorId - The id of the vendor
+     * @return Empty ResponseEntity
+     */
+    @PutMapping("/{isbn}/preferred-vendor")
+    public ResponseEntity<Void> setPreferredVendor(@PathVariable("isbn") String isbn, @RequestParam("vendorId") String vendorId) {
+        textbookCatalogService.setPreferredVendor(isbn, vendorId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Sets the course a textbook is adopted for
+     * @param isbn - The ISBN of the textbook
+     * @param courseCodeDTO - The course code, or null to clear it
+     * @return ResponseEntity containing the updated textbook
+     */
+    @PutMapping("/{isbn}/course-code")
+    public ResponseEntity<TextbookDTO> setCourseCode(@PathVariable("isbn") String isbn, @Valid @RequestBody CourseCodeDTO courseCodeDTO) {
+        return ResponseEntity.ok(textbookCatalogService.setCourseCode(isbn, courseCodeDTO.courseCode()));
+    }
+}
@@ -0,0 +1,7 @@
+package com.modern.studios.inventory.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record BasketReceiptDTO(String idempotencyKey, List<SaleReceiptDTO> lines, BigDecimal totalAmount) {
+}
@@ -0,0 +1,14 @@
+package com.modern.studios.inventory.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record BasketRequestDTO(
+        @NotEmpty(message = "The basket must contain at least one line.")
+        @Size(max = 100, message = "The basket can contain at most 100 lines.")
+        List<@Valid SaleRequestDTO> lines
+) {
+}
@@ -0,0 +1,13 @@
+package com.modern.studios.inventory.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+
+public record ConversionRequestDTO(
+        @NotEmpty(message = "The ISBN is required.")
+        String isbn,
+
+        @Min(value = 1, message = "The quantity must be greater than 0.")
+        int quantity
+) {
+}
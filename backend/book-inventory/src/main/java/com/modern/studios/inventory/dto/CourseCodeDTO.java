@@ -0,0 +1,9 @@
+package com.modern.studios.inventory.dto;
+
+import jakarta.validation.constraints.Size;
+
+public record CourseCodeDTO(
+        @Size(max = 50, message = "The length of course code must be at most 50 characters.")
+        String courseCode
+) {
+}
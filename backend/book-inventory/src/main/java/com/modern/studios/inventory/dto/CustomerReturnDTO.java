@@ -0,0 +1,15 @@
+package com.modern.studios.inventory.dto;
+
+import java.util.UUID;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record CustomerReturnDTO(
+        @NotNull(message = "The transaction id is required.")
+        UUID transactionId,
+
+        @Min(value = 1, message = "The quantity must be greater than 0.")
+        int quantity
+) {
+}
@@ -0,0 +1,4 @@
+package com.modern.studios.inventory.dto;
+
+public record InventoryLevelDTO(String isbn, String condition, int quantityOnHand) {
+}
@@ -0,0 +1,13 @@
+package com.modern.studios.inventory.dto;
+
+import java.time.Instant;
+
+import com.modern.studios.inventory.entity.StockCondition;
+
+public record LowStockItemDTO(String isbn,
+                              String title,
+                              StockCondition condition,
+                              int quantityOnHand,
+                              int minimumThreshold,
+                              Instant belowSince) {
+}
@@ -0,0 +1,33 @@
+package com.modern.studios.inventory.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record NewTextbookDTO(
+        @NotEmpty(message = "The ISBN is required.")
+        @Size(max = 17, message = "The ISBN must be at most 17 characters including separators.")
+        String isbn,
+
+        @NotEmpty(message = "The title is required.")
+        @Size(max = 500, message = "The length of title must be at most 500 characters.")
+        String title,
+
+        @NotEmpty(message = "The author is required.")
+        @Size(max = 255, message = "The length of author must be at most 255 characters.")
+        String author,
+
+        @NotEmpty(message = "The publisher is required.")
+        @Size(max = 255, message = "The length of publisher must be at most 255 characters.")
+        String publisher,
+
+        @Size(max = 50, message = "The length of edition must be at most 50 characters.")
+        String edition,
+
+        @Size(max = 50, message = "The length of course code must be at most 50 characters.")
+        String courseCode,
+
+        @Min(value = 0, message = "The minimum threshold cannot be negative.")
+        int minimumThreshold
+) {
+}
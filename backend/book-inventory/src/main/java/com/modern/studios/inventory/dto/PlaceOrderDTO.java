@@ -0,0 +1,16 @@
+package com.modern.studios.inventory.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+
+public record PlaceOrderDTO(
+        @NotEmpty(message = "The ISBN is required.")
+        String isbn,
+
+        @NotEmpty(message = "The vendor id is required.")
+        String vendorId,
+
+        @Min(value = 1, message = "The quantity must be greater than 0.")
+        int quantity
+) {
+}
@@ -0,0 +1,19 @@
+package com.modern.studios.inventory.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+public record PricingPolicyDTO(
+        @NotNull(message = "The markup percentage is required.")
+        @DecimalMin(value = "0", message = "The markup percentage must be non-negative.")
+        BigDecimal markupPercentage,
+
+        @NotNull(message = "The depreciation rate is required.")
+        @DecimalMin(value = "0", message = "The depreciation rate must be between 0 and 1.")
+        @DecimalMax(value = "1", message = "The depreciation rate must be between 0 and 1.")
+        BigDecimal depreciationRate
+) {
+}
@@ -0,0 +1,7 @@
+package com.modern.studios.inventory.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record PurchaseOrderDTO(String orderId, String vendorId, LocalDate expectedArrival, List<PurchaseOrderLineDTO> lines) {
+}
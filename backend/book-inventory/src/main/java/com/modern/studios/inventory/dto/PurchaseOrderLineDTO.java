@@ -0,0 +1,4 @@
+package com.modern.studios.inventory.dto;
+
+public record PurchaseOrderLineDTO(String isbn, int quantityOrdered) {
+}
@@ -0,0 +1,23 @@
+package com.modern.studios.inventory.dto;
+
+/**
+ * A low-stock title with the inputs used to size its reorder.
+ *
+ * @param isbn               Normalized ISBN-13
+ * @param vendorId           Preferred vendor of the title
+ * @param leadTimeDays       Days the vendor takes to deliver
+ * @param quantityOnHand     NEW copies on hand
+ * @param minimumThreshold   Reorder threshold, kept as safety stock
+ * @param quantityOnOrder    Copies ordered on open purchase orders but not yet received
+ * @param unitsSold          Copies sold net of returns within the velocity window
+ * @param suggestedQuantity  Copies to order, 0 if open orders already cover demand
+ */
+public record ReorderSuggestionDTO(String isbn,
+                                   String vendorId,
+                                   int leadTimeDays,
+                                   int quantityOnHand,
+                                   int minimumThreshold,
+                                   int quantityOnOrder,
+                                   int unitsSold,
+                                   int suggestedQuantity) {
+}
@@ -0,0 +1,4 @@
+package com.modern.studios.inventory.dto;
+
+public record RepricingResultDTO(int titlesRepriced, long durationMillis) {
+}
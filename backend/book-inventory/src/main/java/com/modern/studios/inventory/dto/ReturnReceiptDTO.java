@@ -0,0 +1,8 @@
+package com.modern.studios.inventory.dto;
+
+import java.util.UUID;
+
+import com.modern.studios.inventory.entity.StockCondition;
+
+public record ReturnReceiptDTO(UUID transactionId, String isbn, StockCondition condition, int quantity) {
+}
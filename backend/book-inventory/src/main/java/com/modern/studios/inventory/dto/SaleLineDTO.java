@@ -0,0 +1,11 @@
+package com.modern.studios.inventory.dto;
+
+import java.util.UUID;
+
+import com.modern.studios.inventory.entity.StockCondition;
+
+/**
+ * One line of a basket, normalized and assigned its sales transaction id.
+ */
+public record SaleLineDTO(UUID transactionId, String isbn, StockCondition condition, int quantity) {
+}
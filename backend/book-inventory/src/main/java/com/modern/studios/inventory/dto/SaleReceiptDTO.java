@@ -0,0 +1,9 @@
+package com.modern.studios.inventory.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.modern.studios.inventory.entity.StockCondition;
+
+public record SaleReceiptDTO(UUID transactionId, String isbn, StockCondition condition, int quantity, BigDecimal totalAmount) {
+}
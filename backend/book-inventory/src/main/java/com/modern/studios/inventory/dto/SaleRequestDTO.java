@@ -0,0 +1,19 @@
+package com.modern.studios.inventory.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import com.modern.studios.inventory.entity.StockCondition;
+
+public record SaleRequestDTO(
+        @NotEmpty(message = "The ISBN is required.")
+        String isbn,
+
+        @NotNull(message = "The condition is required.")
+        StockCondition condition,
+
+        @Min(value = 1, message = "The quantity must be greater than 0.")
+        int quantity
+) {
+}
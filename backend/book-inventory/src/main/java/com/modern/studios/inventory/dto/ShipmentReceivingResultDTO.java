@@ -0,0 +1,11 @@
+package com.modern.studios.inventory.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a shipment receiving job. Each rejection is a {@code line,reason} line for an
+ * ASN line that was skipped as invalid or had already been received.
+ */
+public record ShipmentReceivingResultDTO(Long jobExecutionId, String status, String exitCode, long linesRead, long linesWritten,
+                                         List<String> rejections) {
+}
@@ -0,0 +1,9 @@
+package com.modern.studios.inventory.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Average cost of the NEW stock of a title whose stored prices are stale.
+ */
+public record StockCostDTO(String isbn, BigDecimal averageCost) {
+}
@@ -0,0 +1,9 @@
+package com.modern.studios.inventory.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Prices computed for a title from the average cost they were based on.
+ */
+public record StockPriceDTO(String isbn, BigDecimal averageCost, BigDecimal newRetailPrice, BigDecimal usedRetailPrice) {
+}
@@ -0,0 +1,12 @@
+package com.modern.studios.inventory.dto;
+
+import com.modern.studios.inventory.entity.Textbook;
+
+public record TextbookDTO(String isbn, String title, String author, String publisher, String edition, String courseCode,
+                          int minimumThreshold) {
+
+    public TextbookDTO(Textbook textbook) {
+        this(textbook.getIsbn(), textbook.getTitle(), textbook.getAuthor(), textbook.getPublisher(),
+                textbook.getEdition(), textbook.getCourseCode(), textbook.getMinimumThreshold());
+    }
+}
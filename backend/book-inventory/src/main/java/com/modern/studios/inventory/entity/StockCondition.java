@@ -0,0 +1,9 @@
+package com.modern.studios.inventory.entity;
+
+/**
+ * Condition of a stocked copy. Stock is tracked per (isbn, condition).
+ */
+public enum StockCondition {
+    NEW,
+    USED
+}
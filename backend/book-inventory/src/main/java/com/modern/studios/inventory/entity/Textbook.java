@@ -0,0 +1,154 @@
+package com.modern.studios.inventory.entity;
+
+import java.util.Date;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+@Table(name = "textbooks")
+@Entity
+public class Textbook implements Persistable<String> {
+
+    // Normalized ISBN-13, see Isbn.normalize
+    @Id
+    @Column(nullable = false, length = 13)
+    private String isbn;
+
+    @Column(nullable = false, length = 500)
+    private String title;
+
+    @Column(nullable = false)
+    private String author;
+
+    @Column(nullable = false)
+    private String publisher;
+
+    @Column(length = 50)
+    private String edition;
+
+    @Column(name = "course_code", length = 50)
+    private String courseCode;
+
+    @Column(name = "minimum_threshold", nullable = false)
+    private int minimumThreshold;
+
+    @Column(name = "preferred_vendor_id", length = 50)
+    private String preferredVendorId;
+
+    @CreationTimestamp
+    @Column(updatable = false, name = "created_at")
+    private Date createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Date updatedAt;
+
+    // The ISBN is assigned, so tell Spring Data to persist new entities instead of merging them
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public String getId() {
+        return isbn;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public Textbook setIsbn(String isbn) {
+        this.isbn = isbn;
+        return this;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Textbook setTitle(String title) {
+        this.title = title;
+        return this;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public Textbook setAuthor(String author) {
+        this.author = author;
+        return this;
+    }
+
+    public String getPublisher() {
+        return publisher;
+    }
+
+    public Textbook setPublisher(String publisher) {
+        this.publisher = publisher;
+        return this;
+    }
+
+    public String getEdition() {
+        return edition;
+    }
+
+    public Textbook setEdition(String edition) {
+        this.edition = edition;
+        return this;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public Textbook setCourseCode(String courseCode) {
+        this.courseCode = courseCode;
+        return this;
+    }
+
+    public int getMinimumThreshold() {
+        return minimumThreshold;
+    }
+
+    public Textbook setMinimumThreshold(int minimumThreshold) {
+        this.minimumThreshold = minimumThreshold;
+        return this;
+    }
+
+    public String getPreferredVendorId() {
+        return preferredVendorId;
+    }
+
+    public Textbook setPreferredVendorId(String preferredVendorId) {
+        this.preferredVendorId = preferredVendorId;
+        return this;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+}
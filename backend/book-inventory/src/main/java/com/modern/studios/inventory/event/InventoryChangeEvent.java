@@ -0,0 +1,32 @@
+package com.modern.studios.inventory.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.modern.studios.inventory.entity.StockCondition;
+
+/**
+ * Change of the quantity on hand of one (isbn, condition) stock row, published to Kafka
+ * keyed by ISBN. A mutation touching several rows emits one event per row.
+ *
+ * @param eventId       Unique id consumers can deduplicate on
+ * @param type          The mutation that changed the stock
+ * @param isbn          Normalized ISBN-13
+ * @param condition     Condition of the stock row
+ * @param quantityDelta Signed change of the quantity on hand
+ * @param reference     Sales transaction or purchase order the change belongs to, if any
+ * @param occurredAt    When the change was committed
+ */
+public record InventoryChangeEvent(UUID eventId,
+                                   InventoryChangeType type,
+                                   String isbn,
+                                   StockCondition condition,
+                                   int quantityDelta,
+                                   String reference,
+                                   Instant occurredAt) {
+
+    public static InventoryChangeEvent of(InventoryChangeType type, String isbn, StockCondition condition,
+                                          int quantityDelta, String reference) {
+        return new InventoryChangeEvent(UUID.randomUUID(), type, isbn, condition, quantityDelta, reference, Instant.now());
+    }
+}
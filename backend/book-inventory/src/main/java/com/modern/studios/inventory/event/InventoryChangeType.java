@@ -0,0 +1,9 @@
+package com.modern.studios.inventory.event;
+
+public enum InventoryChangeType {
+    SALE,
+    RETURN,
+    RECEIPT,
+    CONVERSION,
+    OPENING_BALANCE
+}
@@ -0,0 +1,28 @@
+package com.modern.studios.inventory.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.modern.studios.inventory.entity.StockCondition;
+
+/**
+ * A stock row crossing its reorder threshold, in either direction. Written to the outbox by
+ * a database trigger in the transaction that changed the stock and published to the
+ * low-stock topic keyed by ISBN.
+ *
+ * @param eventId          Unique id consumers can deduplicate on
+ * @param type             Whether the row fell below or recovered to its threshold
+ * @param isbn             Normalized ISBN-13
+ * @param condition        Condition of the stock row
+ * @param quantityOnHand   Quantity on hand after the change
+ * @param minimumThreshold Reorder threshold of the row
+ * @param occurredAt       When the crossing was committed
+ */
+public record LowStockEvent(UUID eventId,
+                            LowStockEventType type,
+                            String isbn,
+                            StockCondition condition,
+                            int quantityOnHand,
+                            int minimumThreshold,
+                            Instant occurredAt) {
+}
@@ -0,0 +1,6 @@
+package com.modern.studios.inventory.event;
+
+public enum LowStockEventType {
+    BELOW_THRESHOLD,
+    RESTORED
+}
@@ -0,0 +1,12 @@
+package com.modern.studios.inventory.event;
+
+/**
+ * A pending outbox row as read by the relay.
+ *
+ * @param id        Outbox sequence number, defines the publication order
+ * @param eventType Type of the event, selects the topic
+ * @param key       Kafka record key (the ISBN)
+ * @param payload   Serialized {@link InventoryChangeEvent} or {@link LowStockEvent}
+ */
+public record OutboxMessage(long id, String eventType, String key, String payload) {
+}
@@ -0,0 +1,11 @@
+package com.modern.studios.inventory.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "Invalid ISBN")
+public class InvalidIsbnException extends RuntimeException {
+    public InvalidIsbnException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.modern.studios.inventory.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "Invalid pricing input")
+public class InvalidPricingException extends RuntimeException {
+    public InvalidPricingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.modern.studios.inventory.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "Invalid stock condition")
+public class InvalidStockConditionException extends RuntimeException {
+    public InvalidStockConditionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.modern.studios.inventory.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.CONFLICT, reason = "Return exceeds the quantity sold")
+public class ReturnExceedsSaleException extends RuntimeException {
+    public ReturnExceedsSaleException(String message) {
+        super(message);
+    }
+}
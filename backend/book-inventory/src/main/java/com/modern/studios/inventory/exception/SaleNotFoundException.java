@@ -0,0 +1,11 @@
+package com.modern.studios.inventory.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.NOT_FOUND, reason = "Sales transaction not found")
+public class SaleNotFoundException extends RuntimeException {
+    public SaleNotFoundException(String message) {
+        super(message);
+    }
+}
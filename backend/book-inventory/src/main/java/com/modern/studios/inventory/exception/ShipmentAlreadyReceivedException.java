@@ -0,0 +1,11 @@
+package com.modern.studios.inventory.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.CONFLICT, reason = "Shipment has already been received")
+public class ShipmentAlreadyReceivedException extends RuntimeException {
+    public ShipmentAlreadyReceivedException(String message) {
+        super(message);
+    }
+}
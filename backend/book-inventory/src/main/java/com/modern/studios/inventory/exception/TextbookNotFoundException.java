@@ -0,0 +1,11 @@
+package com.modern.studios.inventory.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.NOT_FOUND, reason = "Textbook not found")
+public class TextbookNotFoundException extends RuntimeException {
+    public TextbookNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.modern.studios.inventory.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.NOT_FOUND, reason = "Vendor not found")
+public class VendorNotFoundException extends RuntimeException {
+    public VendorNotFoundException(String message) {
+        super(message);
+    }
+}
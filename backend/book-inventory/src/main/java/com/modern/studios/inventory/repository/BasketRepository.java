@@ -0,0 +1,82 @@
+package com.modern.studios.inventory.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the idempotency records of register baskets.
+ */
+@Repository
+public class BasketRepository {
+
+    /**
+     * A basket recorded under an idempotency key.
+     *
+     * @param requestHash Hash of the basket contents
+     * @param response    The receipt returned for the basket, as JSON
+     */
+    public record StoredBasket(String requestHash, String response) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public BasketRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Claims an idempotency key for the current transaction. A concurrent claim of the same
+     * key blocks until the first transaction ends: it then sees the committed basket, or
+     * takes over the key if the first transaction rolled back.
+     *
+     * @param idempotencyKey The client key
+     * @param requestHash    Hash of the basket contents
+     * @return true if the key was claimed, false if a basket was already recorded for it
+     */
+    public boolean claim(String idempotencyKey, String requestHash) {
+        return jdbcTemplate.update("""
+                INSERT INTO pos_baskets (idempotency_key, request_hash) VALUES (:key, :hash)
+                ON CONFLICT (idempotency_key) DO NOTHING
+                """, new MapSqlParameterSource()
+                .addValue("key", idempotencyKey)
+                .addValue("hash", requestHash)) == 1;
+    }
+
+    /**
+     * Returns the recorded basket for a key.
+     *
+     * @param idempotencyKey The client key
+     * @return The recorded basket, or empty if the key is unknown
+     */
+    public Optional<StoredBasket> find(String idempotencyKey) {
+        List<StoredBasket> rows = jdbcTemplate.query(
+                "SELECT request_hash, response::text AS response FROM pos_baskets WHERE idempotency_key = :key",
+                new MapSqlParameterSource("key", idempotencyKey),
+                (rs, rowNum) -> new StoredBasket(rs.getString("request_hash"), rs.getString("response")));
+        return rows.stream().findFirst();
+    }
+
+    public void saveResponse(String idempotencyKey, String responseJson) {
+        jdbcTemplate.update("UPDATE pos_baskets SET response = CAST(:response AS jsonb) WHERE idempotency_key = :key",
+                new MapSqlParameterSource()
+                        .addValue("key", idempotencyKey)
+                        .addValue("response", responseJson));
+    }
+
+    /**
+     * Removes idempotency records older than the retry horizon.
+     *
+     * @param before Records created before this instant are removed
+     * @return The number of records removed
+     */
+    public int deleteCreatedBefore(Instant before) {
+        return jdbcTemplate.update("DELETE FROM pos_baskets WHERE created_at < :before",
+                new MapSqlParameterSource("before", Timestamp.from(before)));
+    }
+}
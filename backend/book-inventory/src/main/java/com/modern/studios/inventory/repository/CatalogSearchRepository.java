@@ -0,0 +1,63 @@
+package com.modern.studios.inventory.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.modern.studios.inventory.dto.TextbookDTO;
+
+/**
+ * Streams catalog rows into the in-memory search index. Rows are fetched with a cursor so
+ * the initial load of the whole catalog does not materialize it in one result set; the
+ * caller must run inside a transaction for the PostgreSQL driver to honour the fetch size.
+ */
+@Repository
+public class CatalogSearchRepository {
+
+    private static final int FETCH_SIZE = 5000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CatalogSearchRepository(DataSource dataSource) {
+        JdbcTemplate streamingTemplate = new JdbcTemplate(dataSource);
+        streamingTemplate.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(streamingTemplate);
+    }
+
+    /**
+     * A catalog row and the time it was last changed.
+     */
+    public record CatalogEntry(TextbookDTO textbook, Instant updatedAt) {
+    }
+
+    /**
+     * Passes every textbook changed after the given instant to the consumer, in no particular order.
+     *
+     * @param since    Exclusive lower bound on updated_at; {@link Instant#EPOCH} for the whole catalog
+     * @param consumer Receives each changed textbook
+     */
+    public void forEachUpdatedSince(Instant since, Consumer<CatalogEntry> consumer) {
+        jdbcTemplate.query("""
+                SELECT isbn, title, author, publisher, edition, course_code, minimum_threshold, updated_at
+                FROM textbooks
+                WHERE updated_at > :since
+                """, new MapSqlParameterSource("since", Timestamp.from(since)), rs -> {
+            consumer.accept(new CatalogEntry(new TextbookDTO(
+                    rs.getString("isbn"),
+                    rs.getString("title"),
+                    rs.getString("author"),
+                    rs.getString("publisher"),
+                    rs.getString("edition"),
+                    rs.getString("course_code"),
+                    rs.getInt("minimum_threshold")),
+                    rs.getTimestamp("updated_at").toInstant()));
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.modern.studios.inventory.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.modern.studios.inventory.dto.LowStockItemDTO;
+import com.modern.studios.inventory.entity.StockCondition;
+
+/**
+ * Reads the set of stock rows below their reorder threshold. The set is maintained by
+ * database triggers as stock changes, so reading it never scans the stock table.
+ */
+@Repository
+public class LowStockRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public LowStockRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns the distinct ISBNs with at least one stock row below its threshold.
+     *
+     * @return ISBNs in ascending order
+     */
+    public List<String> findIsbns() {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT isbn FROM low_stock_items ORDER BY isbn",
+                new MapSqlParameterSource(), String.class);
+    }
+
+    /**
+     * Returns every stock row below its threshold with its current quantity.
+     *
+     * @return Low stock items, longest below threshold first
+     */
+    public List<LowStockItemDTO> findAll() {
+        return jdbcTemplate.query("""
+                SELECT l.isbn, t.title, l.condition, s.quantity_on_hand, s.minimum_threshold, l.below_since
+                FROM low_stock_items l
+                JOIN textbook_stock s ON s.isbn = l.isbn AND s.condition = l.condition
+                JOIN textbooks t ON t.isbn = l.isbn
+                ORDER BY l.below_since, l.isbn
+                """, new MapSqlParameterSource(), (rs, rowNum) -> new LowStockItemDTO(
+                rs.getString("isbn"),
+                rs.getString("title"),
+                StockCondition.valueOf(rs.getString("condition")),
+                rs.getInt("quantity_on_hand"),
+                rs.getInt("minimum_threshold"),
+                rs.getTimestamp("below_since").toInstant()));
+    }
+}
@@ -0,0 +1,107 @@
+package com.modern.studios.inventory.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import tools.jackson.databind.json.JsonMapper;
+
+import com.modern.studios.inventory.event.InventoryChangeEvent;
+import com.modern.studios.inventory.event.OutboxMessage;
+
+/**
+ * JDBC access to the inventory outbox. Events are appended inside the caller's transaction
+ * so they are committed if and only if the stock mutation is.
+ */
+@Repository
+public class OutboxRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+
+    public OutboxRepository(NamedParameterJdbcTemplate jdbcTemplate, JsonMapper jsonMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Appends events to the outbox in a single JDBC batch.
+     *
+     * @param events Events to publish, in order
+     */
+    public void append(List<InventoryChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        MapSqlParameterSource[] batch = events.stream()
+                .map(event -> new MapSqlParameterSource()
+                        .addValue("isbn", event.isbn())
+                        .addValue("eventType", event.type().name())
+                        .addValue("payload", jsonMapper.writeValueAsString(event)))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO inventory_outbox (isbn, event_type, payload)
+                VALUES (:isbn, :eventType, CAST(:payload AS jsonb))
+                """, batch);
+    }
+
+    /**
+     * Takes or renews the relay lease. Only one relay drains the outbox at a time, so events
+     * for the same ISBN are never published out of order by two replicas. The lease is a row
+     * rather than an advisory lock so that no transaction has to stay open while Kafka
+     * acknowledges a batch.
+     *
+     * @param holder Id of the relay instance
+     * @param lease  How long the lease lasts unless renewed
+     * @return true if this relay holds the lease
+     */
+    public boolean tryAcquireRelayLease(String holder, Duration lease) {
+        return jdbcTemplate.update("""
+                UPDATE outbox_relay_lease
+                SET holder = :holder, expires_at = CURRENT_TIMESTAMP + make_interval(secs => :leaseSeconds)
+                WHERE id = 1 AND (holder = :holder OR expires_at < CURRENT_TIMESTAMP)
+                """, new MapSqlParameterSource()
+                .addValue("holder", holder)
+                .addValue("leaseSeconds", lease.toMillis() / 1000.0)) == 1;
+    }
+
+    /**
+     * Gives up the relay lease so another replica can take over without waiting for it to expire.
+     *
+     * @param holder Id of the relay instance
+     */
+    public void releaseRelayLease(String holder) {
+        jdbcTemplate.update(
+                "UPDATE outbox_relay_lease SET holder = NULL, expires_at = '-infinity' WHERE id = 1 AND holder = :holder",
+                new MapSqlParameterSource("holder", holder));
+    }
+
+    /**
+     * Returns the oldest pending events.
+     *
+     * @param limit Maximum number of events
+     * @return Pending events in publication order
+     */
+    public List<OutboxMessage> findPending(int limit) {
+        return jdbcTemplate.query("""
+                SELECT id, event_type, isbn, payload::text AS payload FROM inventory_outbox ORDER BY id LIMIT :limit
+                """, new MapSqlParameterSource("limit", limit),
+                (rs, rowNum) -> new OutboxMessage(
+                        rs.getLong("id"), rs.getString("event_type"), rs.getString("isbn"), rs.getString("payload")));
+    }
+
+    /**
+     * Removes published events.
+     *
+     * @param ids Ids of the events Kafka acknowledged
+     */
+    public void delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM inventory_outbox WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+    }
+}
@@ -0,0 +1,127 @@
+package com.modern.studios.inventory.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.modern.studios.inventory.dto.PricingPolicyDTO;
+import com.modern.studios.inventory.dto.StockCostDTO;
+import com.modern.studios.inventory.dto.StockPriceDTO;
+
+/**
+ * JDBC access to the pricing policy and the prices stored on stock rows.
+ */
+@Repository
+public class PricingRepository {
+
+    // Prices both conditions of a title in one statement. The stale flag stays set when the
+    // cost or the policy changed after they were read, so the next run picks the title up again.
+    private static final String UPDATE_PRICES_SQL = """
+            UPDATE textbook_stock
+            SET retail_price = CASE condition WHEN 'NEW' THEN :newPrice ELSE :usedPrice END,
+                price_stale = CASE condition
+                    WHEN 'NEW' THEN average_cost <> :averageCost
+                        OR (SELECT version FROM pricing_policy WHERE id = 1) <> :policyVersion
+                    ELSE FALSE END,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE isbn = :isbn
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PricingRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns the store pricing policy.
+     *
+     * @return The markup and depreciation rates as fractions (0.2500 = 25%)
+     */
+    public PricingPolicyDTO findPolicy() {
+        return jdbcTemplate.queryForObject(
+                "SELECT markup_basis_points, depreciation_basis_points FROM pricing_policy WHERE id = 1",
+                new MapSqlParameterSource(),
+                (rs, rowNum) -> new PricingPolicyDTO(
+                        BigDecimal.valueOf(rs.getInt("markup_basis_points"), 4),
+                        BigDecimal.valueOf(rs.getInt("depreciation_basis_points"), 4)));
+    }
+
+    /**
+     * Returns the version of the store policy, bumped by every change. Read it before the policy
+     * itself: if the policy changes in between, prices are stored with an older version and the
+     * titles simply stay stale.
+     *
+     * @return The policy version
+     */
+    public long findPolicyVersion() {
+        Long version = jdbcTemplate.queryForObject(
+                "SELECT version FROM pricing_policy WHERE id = 1", new MapSqlParameterSource(), Long.class);
+        return version == null ? 0L : version;
+    }
+
+    /**
+     * Replaces the store policy and marks every costed title for repricing.
+     *
+     * @param markupBasisPoints       Markup in basis points
+     * @param depreciationBasisPoints Used discount in basis points
+     */
+    public void updatePolicy(int markupBasisPoints, int depreciationBasisPoints) {
+        jdbcTemplate.update("""
+                UPDATE pricing_policy
+                SET markup_basis_points = :markup, depreciation_basis_points = :depreciation,
+                    version = version + 1, updated_at = CURRENT_TIMESTAMP
+                WHERE id = 1
+                """, new MapSqlParameterSource()
+                .addValue("markup", markupBasisPoints)
+                .addValue("depreciation", depreciationBasisPoints));
+        jdbcTemplate.update("""
+                UPDATE textbook_stock SET price_stale = TRUE
+                WHERE condition = 'NEW' AND average_cost > 0 AND NOT price_stale
+                """, new MapSqlParameterSource());
+    }
+
+    /**
+     * Returns the next chunk of titles with stale prices, through the partial index.
+     *
+     * @param afterIsbn Last ISBN of the previous chunk, empty string for the first
+     * @param limit     Chunk size
+     * @return Titles in ISBN order
+     */
+    public List<StockCostDTO> findStale(String afterIsbn, int limit) {
+        return jdbcTemplate.query("""
+                SELECT isbn, average_cost FROM textbook_stock
+                WHERE price_stale AND condition = 'NEW' AND average_cost > 0 AND isbn > :afterIsbn
+                ORDER BY isbn
+                LIMIT :limit
+                """, new MapSqlParameterSource()
+                        .addValue("afterIsbn", afterIsbn)
+                        .addValue("limit", limit),
+                (rs, rowNum) -> new StockCostDTO(rs.getString("isbn"), rs.getBigDecimal("average_cost")));
+    }
+
+    /**
+     * Stores computed prices in a single JDBC batch.
+     *
+     * @param prices        Prices per title
+     * @param policyVersion Version of the policy the prices were computed with
+     */
+    public void updatePrices(List<StockPriceDTO> prices, long policyVersion) {
+        if (prices.isEmpty()) {
+            return;
+        }
+
+        MapSqlParameterSource[] batch = prices.stream()
+                .map(price -> new MapSqlParameterSource()
+                        .addValue("isbn", price.isbn())
+                        .addValue("averageCost", price.averageCost())
+                        .addValue("newPrice", price.newRetailPrice())
+                        .addValue("usedPrice", price.usedRetailPrice())
+                        .addValue("policyVersion", policyVersion))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE_PRICES_SQL, batch);
+    }
+}
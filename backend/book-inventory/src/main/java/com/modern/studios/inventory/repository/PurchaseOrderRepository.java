@@ -0,0 +1,215 @@
+package com.modern.studios.inventory.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.modern.studios.inventory.dto.PurchaseOrderLineDTO;
+import com.modern.studios.inventory.dto.ReorderSuggestionDTO;
+
+/**
+ * JDBC access to purchase orders and their lines.
+ */
+@Repository
+public class PurchaseOrderRepository {
+
+    // Moves every open order with received copies to PARTIAL, or CLOSED once all lines are filled
+    private static final String CLOSE_RECEIVED_ORDERS_SQL = """
+            UPDATE purchase_orders po
+            SET status = CASE WHEN received.open_lines = 0 THEN 'CLOSED' ELSE 'PARTIAL' END,
+                updated_at = CURRENT_TIMESTAMP
+            FROM (
+                SELECT l.order_id,
+                       COUNT(*) FILTER (WHERE l.quantity_received < l.quantity_ordered) AS open_lines
+                FROM purchase_order_lines l
+                JOIN purchase_orders o ON o.id = l.order_id AND o.status IN ('PENDING', 'PARTIAL')
+                GROUP BY l.order_id
+                HAVING SUM(l.quantity_received) > 0
+            ) received
+            WHERE po.id = received.order_id
+              AND po.status <> CASE WHEN received.open_lines = 0 THEN 'CLOSED' ELSE 'PARTIAL' END
+            """;
+
+    // Low-stock NEW rows with everything needed to size a reorder, read in one set-based pass:
+    // the sales and on-order aggregates only touch the titles in the low-stock set
+    private static final String REORDER_CANDIDATES_SQL = """
+            WITH low AS (
+                SELECT s.isbn, s.quantity_on_hand, s.minimum_threshold
+                FROM low_stock_items l
+                JOIN textbook_stock s ON s.isbn = l.isbn AND s.condition = l.condition
+                WHERE l.condition = 'NEW'
+            ), sold AS (
+                SELECT st.isbn, SUM(st.quantity - st.quantity_returned) AS units_sold
+                FROM sales_transactions st
+                JOIN low ON low.isbn = st.isbn
+                WHERE st.condition = 'NEW'
+                  AND st.sold_at >= CURRENT_TIMESTAMP - make_interval(days => :windowDays)
+                GROUP BY st.isbn
+            ), on_order AS (
+                SELECT pl.isbn, SUM(GREATEST(pl.quantity_ordered - pl.quantity_received, 0)) AS quantity_on_order
+                FROM purchase_order_lines pl
+                JOIN low ON low.isbn = pl.isbn
+                JOIN purchase_orders po ON po.id = pl.order_id AND po.status IN ('PENDING', 'PARTIAL')
+                GROUP BY pl.isbn
+            )
+            SELECT low.isbn, t.preferred_vendor_id, v.lead_time_days, low.quantity_on_hand, low.minimum_threshold,
+                   COALESCE(on_order.quantity_on_order, 0) AS quantity_on_order,
+                   COALESCE(sold.units_sold, 0) AS units_sold
+            FROM low
+            JOIN textbooks t ON t.isbn = low.isbn
+            JOIN vendors v ON v.id = t.preferred_vendor_id
+            LEFT JOIN sold ON sold.isbn = low.isbn
+            LEFT JOIN on_order ON on_order.isbn = low.isbn
+            ORDER BY t.preferred_vendor_id, low.isbn
+            """;
+
+    // "REOR": namespace of the advisory locks serializing the reorders placed with one vendor
+    private static final int REORDER_LOCK_NAMESPACE = 0x52454F52;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PurchaseOrderRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds received quantities to purchase order lines in a single JDBC batch.
+     * Lines that do not belong to an order are ignored: the stock is still received.
+     *
+     * @param receivedByOrderLine Received quantity keyed by {@code orderId:isbn}
+     */
+    public void recordReceived(Map<String, Integer> receivedByOrderLine) {
+        if (receivedByOrderLine.isEmpty()) {
+            return;
+        }
+
+        MapSqlParameterSource[] batch = receivedByOrderLine.entrySet().stream()
+                .map(entry -> {
+                    int separator = entry.getKey().lastIndexOf(':');
+                    return new MapSqlParameterSource()
+                            .addValue("orderId", entry.getKey().substring(0, separator))
+                            .addValue("isbn", entry.getKey().substring(separator + 1))
+                            .addValue("quantity", entry.getValue());
+                })
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("""
+                UPDATE purchase_order_lines
+                SET quantity_received = quantity_received + :quantity
+                WHERE order_id = :orderId AND isbn = :isbn
+                """, batch);
+    }
+
+    /**
+     * Returns the low-stock titles that have a preferred vendor, ordered by vendor.
+     * The suggested quantity of the returned rows is left at 0 for the caller to compute.
+     *
+     * @param windowDays Number of days of sales used to measure velocity
+     * @return Reorder candidates grouped by vendor
+     */
+    public List<ReorderSuggestionDTO> findReorderCandidates(int windowDays) {
+        return jdbcTemplate.query(REORDER_CANDIDATES_SQL, new MapSqlParameterSource("windowDays", windowDays),
+                (rs, rowNum) -> new ReorderSuggestionDTO(
+                        rs.getString("isbn"),
+                        rs.getString("preferred_vendor_id"),
+                        rs.getInt("lead_time_days"),
+                        rs.getInt("quantity_on_hand"),
+                        rs.getInt("minimum_threshold"),
+                        rs.getInt("quantity_on_order"),
+                        rs.getInt("units_sold"),
+                        0));
+    }
+
+    /**
+     * Waits for the reorders other transactions are placing with a vendor, then keeps the
+     * vendor locked until the current transaction ends.
+     *
+     * @param vendorId The vendor id
+     */
+    public void lockVendorReorders(String vendorId) {
+        jdbcTemplate.queryForObject("SELECT 1 FROM pg_advisory_xact_lock(:namespace, hashtext(:vendorId))",
+                new MapSqlParameterSource()
+                        .addValue("namespace", REORDER_LOCK_NAMESPACE)
+                        .addValue("vendorId", vendorId),
+                Integer.class);
+    }
+
+    /**
+     * Returns the copies still to be delivered on open orders for each title.
+     *
+     * @param isbns The titles to look up
+     * @return Copies on order keyed by ISBN; titles with none are absent
+     */
+    public Map<String, Integer> findQuantitiesOnOrder(Collection<String> isbns) {
+        Map<String, Integer> onOrder = new HashMap<>();
+        if (isbns.isEmpty()) {
+            return onOrder;
+        }
+
+        jdbcTemplate.query("""
+                SELECT pl.isbn, SUM(GREATEST(pl.quantity_ordered - pl.quantity_received, 0)) AS quantity_on_order
+                FROM purchase_order_lines pl
+                JOIN purchase_orders po ON po.id = pl.order_id AND po.status IN ('PENDING', 'PARTIAL')
+                WHERE pl.isbn IN (:isbns)
+                GROUP BY pl.isbn
+                """, new MapSqlParameterSource("isbns", isbns),
+                rs -> {
+                    onOrder.put(rs.getString("isbn"), rs.getInt("quantity_on_order"));
+                });
+        return onOrder;
+    }
+
+    /**
+     * Returns the delivery lead time of a vendor.
+     *
+     * @param vendorId The vendor id
+     * @return The lead time in days, or empty if the vendor does not exist
+     */
+    public Optional<Integer> findLeadTimeDays(String vendorId) {
+        return jdbcTemplate.queryForList("SELECT lead_time_days FROM vendors WHERE id = :id",
+                new MapSqlParameterSource("id", vendorId), Integer.class).stream().findFirst();
+    }
+
+    /**
+     * Creates a pending purchase order with its lines, the lines in a single JDBC batch.
+     *
+     * @param orderId         Id of the new order
+     * @param vendorId        Vendor the order is placed with
+     * @param expectedArrival Expected delivery date
+     * @param lines           Titles and quantities ordered, at most one line per ISBN
+     */
+    public void createOrder(String orderId, String vendorId, LocalDate expectedArrival, List<PurchaseOrderLineDTO> lines) {
+        jdbcTemplate.update("""
+                INSERT INTO purchase_orders (id, vendor_id, expected_arrival) VALUES (:id, :vendorId, :expectedArrival)
+                """, new MapSqlParameterSource()
+                .addValue("id", orderId)
+                .addValue("vendorId", vendorId)
+                .addValue("expectedArrival", Date.valueOf(expectedArrival)));
+
+        MapSqlParameterSource[] batch = lines.stream()
+                .map(line -> new MapSqlParameterSource()
+                        .addValue("orderId", orderId)
+                        .addValue("isbn", line.isbn())
+                        .addValue("quantity", line.quantityOrdered()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO purchase_order_lines (order_id, isbn, quantity_ordered) VALUES (:orderId, :isbn, :quantity)
+                """, batch);
+    }
+
+    /**
+     * Updates the status of every open order that has received copies.
+     *
+     * @return The number of orders whose status changed
+     */
+    public int closeReceivedOrders() {
+        return jdbcTemplate.update(CLOSE_RECEIVED_ORDERS_SQL, new MapSqlParameterSource());
+    }
+}
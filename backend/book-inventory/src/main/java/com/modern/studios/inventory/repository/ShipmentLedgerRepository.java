@@ -0,0 +1,53 @@
+package com.modern.studios.inventory.repository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.modern.studios.inventory.batch.AsnLine;
+
+/**
+ * JDBC access to the ledger of ASN lines already received into stock.
+ */
+@Repository
+public class ShipmentLedgerRepository {
+
+    private static final String CLAIM_LINES_SQL = """
+            INSERT INTO shipment_received_lines (asn_id, line_number, order_id, isbn)
+            SELECT :asnId, line.line_number, line.order_id, line.isbn
+            FROM unnest(ARRAY[:lineNumbers]::integer[], ARRAY[:orderIds]::varchar[], ARRAY[:isbns]::varchar[])
+                AS line (line_number, order_id, isbn)
+            ON CONFLICT DO NOTHING
+            RETURNING line_number
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ShipmentLedgerRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records ASN lines as received, in one statement, unless they already are.
+     *
+     * @param asnId Id of the advance shipping notice the lines belong to
+     * @param lines Lines of the ASN, at most one per line number
+     * @return Line numbers of the lines not received before, which the caller must apply
+     */
+    public Set<Integer> claimLines(String asnId, List<? extends AsnLine> lines) {
+        if (lines.isEmpty()) {
+            return Set.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("asnId", asnId)
+                .addValue("lineNumbers", lines.stream().map(AsnLine::lineNumber).toList())
+                .addValue("orderIds", lines.stream().map(AsnLine::orderId).toList())
+                .addValue("isbns", lines.stream().map(AsnLine::isbn).toList());
+        return new HashSet<>(jdbcTemplate.queryForList(CLAIM_LINES_SQL, params, Integer.class));
+    }
+}
@@ -0,0 +1,271 @@
+package com.modern.studios.inventory.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.modern.studios.inventory.batch.StockReceipt;
+import com.modern.studios.inventory.dto.ReturnReceiptDTO;
+import com.modern.studios.inventory.dto.SaleLineDTO;
+import com.modern.studios.inventory.entity.StockCondition;
+
+/**
+ * JDBC access to the per-(isbn, condition) stock rows. Stock mutations are single
+ * conditional statements so concurrent registers never read-then-write the same row.
+ */
+@Repository
+public class StockRepository {
+
+    // Decrements stock only if enough is on hand and records the sale in the same statement
+    private static final String SELL_SQL = """
+            WITH sold AS (
+                UPDATE textbook_stock
+                SET quantity_on_hand = quantity_on_hand - :quantity, updated_at = CURRENT_TIMESTAMP
+                WHERE isbn = :isbn AND condition = :condition AND quantity_on_hand >= :quantity
+                RETURNING isbn, condition, retail_price
+            )
+            INSERT INTO sales_transactions (id, isbn, condition, quantity, unit_price, total_amount)
+            SELECT :id, isbn, condition, :quantity, retail_price, retail_price * :quantity FROM sold
+            RETURNING total_amount
+            """;
+
+    // SELL_SQL without the RETURNING clause, so a batch reports 1 or 0 rows per line
+    private static final String SELL_LINE_SQL = """
+            WITH sold AS (
+                UPDATE textbook_stock
+                SET quantity_on_hand = quantity_on_hand - :quantity, updated_at = CURRENT_TIMESTAMP
+                WHERE isbn = :isbn AND condition = :condition AND quantity_on_hand >= :quantity
+                RETURNING isbn, condition, retail_price
+            )
+            INSERT INTO sales_transactions (id, isbn, condition, quantity, unit_price, total_amount)
+            SELECT :id, isbn, condition, :quantity, retail_price, retail_price * :quantity FROM sold
+            """;
+
+    // Books the return against the sale and puts the copies back on the shelf they were sold from.
+    // The sold_at bound prunes the lookup to the partitions inside the return window.
+    private static final String RETURN_SQL = """
+            WITH returned AS (
+                UPDATE sales_transactions
+                SET quantity_returned = quantity_returned + :quantity
+                WHERE id = :id
+                  AND sold_at >= CURRENT_TIMESTAMP - make_interval(days => :windowDays)
+                  AND quantity_returned + :quantity <= quantity
+                RETURNING isbn, condition
+            )
+            UPDATE textbook_stock s
+            SET quantity_on_hand = s.quantity_on_hand + :quantity, updated_at = CURRENT_TIMESTAMP
+            FROM returned r
+            WHERE s.isbn = r.isbn AND s.condition = r.condition
+            RETURNING s.isbn, s.condition
+            """;
+
+    // Moves copies from the NEW row to the USED row only if enough NEW copies are on hand
+    private static final String CONVERT_SQL = """
+            WITH taken AS (
+                UPDATE textbook_stock
+                SET quantity_on_hand = quantity_on_hand - :quantity, updated_at = CURRENT_TIMESTAMP
+                WHERE isbn = :isbn AND condition = 'NEW' AND quantity_on_hand >= :quantity
+                RETURNING isbn
+            )
+            UPDATE textbook_stock s
+            SET quantity_on_hand = s.quantity_on_hand + :quantity, updated_at = CURRENT_TIMESTAMP
+            FROM taken t
+            WHERE s.isbn = t.isbn AND s.condition = 'USED'
+            RETURNING s.isbn
+            """;
+
+    // Adds received copies, folds their cost into the weighted-average cost of the row and
+    // marks its prices for recalculation
+    private static final String RECEIVE_SQL = """
+            INSERT INTO textbook_stock (isbn, condition, quantity_on_hand, average_cost)
+            VALUES (:isbn, :condition, :quantity, :unitCost)
+            ON CONFLICT (isbn, condition) DO UPDATE SET
+                average_cost = CASE
+                    WHEN textbook_stock.quantity_on_hand <= 0 THEN EXCLUDED.average_cost
+                    ELSE (textbook_stock.average_cost * textbook_stock.quantity_on_hand
+                            + EXCLUDED.average_cost * EXCLUDED.quantity_on_hand)
+                         / (textbook_stock.quantity_on_hand + EXCLUDED.quantity_on_hand)
+                END,
+                quantity_on_hand = textbook_stock.quantity_on_hand + EXCLUDED.quantity_on_hand,
+                price_stale = TRUE,
+                updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public StockRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Creates empty NEW and USED stock rows for a textbook that was just added to the catalog.
+     *
+     * @param isbn Normalized ISBN-13
+     */
+    public void createStockRows(String isbn) {
+        jdbcTemplate.update("""
+                INSERT INTO textbook_stock (isbn, condition)
+                VALUES (:isbn, 'NEW'), (:isbn, 'USED')
+                ON CONFLICT (isbn, condition) DO NOTHING
+                """, new MapSqlParameterSource("isbn", isbn));
+    }
+
+    /**
+     * Sells copies if enough are on hand.
+     *
+     * @param transactionId Id of the sales transaction to record
+     * @param isbn          Normalized ISBN-13
+     * @param condition     Condition of the copies sold
+     * @param quantity      Number of copies sold
+     * @return The total amount of the sale, or empty if the stock row is missing or holds too few copies
+     */
+    public Optional<BigDecimal> sell(UUID transactionId, String isbn, StockCondition condition, int quantity) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", transactionId)
+                .addValue("isbn", isbn)
+                .addValue("condition", condition.name())
+                .addValue("quantity", quantity);
+        List<BigDecimal> totals = jdbcTemplate.queryForList(SELL_SQL, params, BigDecimal.class);
+        return totals.stream().findFirst();
+    }
+
+    /**
+     * Sells several lines as one JDBC batch of conditional statements.
+     *
+     * @param lines Lines to sell, sorted by (isbn, condition) so concurrent baskets lock rows in the same order
+     * @return Rows inserted per line: 1 if the line was sold, 0 if too few copies were on hand
+     */
+    public int[] sellAll(List<SaleLineDTO> lines) {
+        MapSqlParameterSource[] batch = lines.stream()
+                .map(line -> new MapSqlParameterSource()
+                        .addValue("id", line.transactionId())
+                        .addValue("isbn", line.isbn())
+                        .addValue("condition", line.condition().name())
+                        .addValue("quantity", line.quantity()))
+                .toArray(MapSqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(SELL_LINE_SQL, batch);
+    }
+
+    /**
+     * Returns the totals of sales recorded by the current transaction.
+     *
+     * @param transactionIds Ids of the sales transactions
+     * @return Total amount keyed by transaction id
+     */
+    public Map<UUID, BigDecimal> findTotalsOfCurrentTransaction(List<UUID> transactionIds) {
+        // sold_at defaults to CURRENT_TIMESTAMP, which is fixed for the whole database
+        // transaction: the equality prunes the lookup to a single partition
+        return jdbcTemplate.query("""
+                SELECT id, total_amount FROM sales_transactions
+                WHERE id IN (:ids) AND sold_at = CURRENT_TIMESTAMP
+                """, new MapSqlParameterSource("ids", transactionIds), rs -> {
+            Map<UUID, BigDecimal> totals = new HashMap<>();
+            while (rs.next()) {
+                totals.put(rs.getObject("id", UUID.class), rs.getBigDecimal("total_amount"));
+            }
+            return totals;
+        });
+    }
+
+    /**
+     * Returns copies of a sale to stock.
+     *
+     * @param transactionId Id of the original sales transaction
+     * @param quantity      Number of copies returned
+     * @param windowDays    Number of days after the sale during which returns are accepted
+     * @return The receipt, or empty if the sale is missing, outside the window or fewer copies remain returnable
+     */
+    public Optional<ReturnReceiptDTO> returnToStock(UUID transactionId, int quantity, int windowDays) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", transactionId)
+                .addValue("quantity", quantity)
+                .addValue("windowDays", windowDays);
+        List<ReturnReceiptDTO> receipts = jdbcTemplate.query(RETURN_SQL, params, (rs, rowNum) -> new ReturnReceiptDTO(
+                transactionId,
+                rs.getString("isbn"),
+                StockCondition.valueOf(rs.getString("condition")),
+                quantity));
+        return receipts.stream().findFirst();
+    }
+
+    /**
+     * Returns how many copies of a sale can still be returned.
+     *
+     * @param transactionId Id of the sales transaction
+     * @param windowDays    Number of days after the sale during which returns are accepted
+     * @return The returnable quantity, or empty if the sale does not exist within the window
+     */
+    public Optional<Integer> findReturnableQuantity(UUID transactionId, int windowDays) {
+        List<Integer> quantities = jdbcTemplate.queryForList("""
+                SELECT quantity - quantity_returned FROM sales_transactions
+                WHERE id = :id AND sold_at >= CURRENT_TIMESTAMP - make_interval(days => :windowDays)
+                """, new MapSqlParameterSource()
+                        .addValue("id", transactionId)
+                        .addValue("windowDays", windowDays), Integer.class);
+        return quantities.stream().findFirst();
+    }
+
+    /**
+     * Reclassifies NEW copies as USED.
+     *
+     * @param isbn     Normalized ISBN-13
+     * @param quantity Number of copies to convert
+     * @return true if the copies were moved, false if too few NEW copies are on hand
+     */
+    public boolean convertNewToUsed(String isbn, int quantity) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("isbn", isbn)
+                .addValue("quantity", quantity);
+        return !jdbcTemplate.queryForList(CONVERT_SQL, params, String.class).isEmpty();
+    }
+
+    /**
+     * Adds received copies to their stock rows in a single JDBC batch.
+     *
+     * @param receipts Copies received, at most one per (isbn, condition)
+     */
+    public void receive(Collection<StockReceipt> receipts) {
+        if (receipts.isEmpty()) {
+            return;
+        }
+
+        MapSqlParameterSource[] batch = receipts.stream()
+                .map(receipt -> new MapSqlParameterSource()
+                        .addValue("isbn", receipt.isbn())
+                        .addValue("condition", receipt.condition().name())
+                        .addValue("quantity", receipt.quantity())
+                        .addValue("unitCost", receipt.unitCost()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(RECEIVE_SQL, batch);
+    }
+
+    /**
+     * Returns the quantity on hand for one condition, or for all conditions when condition is null.
+     *
+     * @param isbn      Normalized ISBN-13
+     * @param condition Condition to count, null for all
+     * @return The quantity on hand, or empty if the textbook has no stock rows
+     */
+    public Optional<Integer> findQuantityOnHand(String isbn, StockCondition condition) {
+        MapSqlParameterSource params = new MapSqlParameterSource("isbn", isbn);
+        String sql;
+        if (condition == null) {
+            sql = "SELECT SUM(quantity_on_hand) FROM textbook_stock WHERE isbn = :isbn";
+        } else {
+            sql = "SELECT quantity_on_hand FROM textbook_stock WHERE isbn = :isbn AND condition = :condition";
+            params.addValue("condition", condition.name());
+        }
+
+        List<Integer> quantities = jdbcTemplate.queryForList(sql, params, Integer.class);
+        return quantities.stream().filter(Objects::nonNull).findFirst();
+    }
+}
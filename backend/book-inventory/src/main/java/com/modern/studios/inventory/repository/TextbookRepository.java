@@ -0,0 +1,22 @@
+package com.modern.studios.inventory.repository;
+
+import java.util.List;
+
+import com.modern.studios.inventory.entity.Textbook;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TextbookRepository extends JpaRepository<Textbook, String> {
+
+    /**
+     * Finds textbooks whose title, author, publisher or course code contains the pattern.
+     * ILIKE on the raw columns is served by the trigram GIN indexes.
+     */
+    @Query(value = "SELECT * FROM textbooks " +
+            "WHERE title ILIKE :pattern OR author ILIKE :pattern OR publisher ILIKE :pattern OR course_code ILIKE :pattern " +
+            "ORDER BY title LIMIT :limit", nativeQuery = true)
+    List<Textbook> searchByPattern(@Param("pattern") String pattern, @Param("limit") int limit);
+}
@@ -0,0 +1,185 @@
+package com.modern.studios.inventory.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import com.modern.studios.inventory.dto.BasketReceiptDTO;
+import com.modern.studios.inventory.dto.BasketRequestDTO;
+import com.modern.studios.inventory.dto.SaleLineDTO;
+import com.modern.studios.inventory.dto.SaleReceiptDTO;
+import com.modern.studios.inventory.dto.SaleRequestDTO;
+import com.modern.studios.inventory.event.InventoryChangeEvent;
+import com.modern.studios.inventory.event.InventoryChangeType;
+import com.modern.studios.inventory.exception.IdempotencyKeyConflictException;
+import com.modern.studios.inventory.exception.InsufficientStockException;
+import com.modern.studios.inventory.exception.InvalidIdempotencyKeyException;
+import com.modern.studios.inventory.exception.TextbookNotFoundException;
+import com.modern.studios.inventory.repository.BasketRepository;
+import com.modern.studios.inventory.repository.OutboxRepository;
+import com.modern.studios.inventory.repository.StockRepository;
+
+/**
+ * Service for multi-line register sales. A basket is one transaction: the idempotency key is
+ * claimed first, then every line is sold by a single batch of conditional statements, and the
+ * receipt is stored under the key. A line that cannot be sold rolls back the whole basket,
+ * and a retried submission returns the stored receipt without touching stock.
+ */
+@Service
+public class BasketService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BasketService.class);
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
+    private final BasketRepository basketRepository;
+    private final StockRepository stockRepository;
+    private final OutboxRepository outboxRepository;
+    private final StockService stockService;
+    private final JsonMapper jsonMapper;
+    private final Duration idempotencyRetention;
+
+    public BasketService(BasketRepository basketRepository,
+                         StockRepository stockRepository,
+                         OutboxRepository outboxRepository,
+                         StockService stockService,
+                         JsonMapper jsonMapper,
+                         @Value("${inventory.baskets.idempotency-retention:24h}") Duration idempotencyRetention) {
+        this.basketRepository = basketRepository;
+        this.stockRepository = stockRepository;
+        this.outboxRepository = outboxRepository;
+        this.stockService = stockService;
+        this.jsonMapper = jsonMapper;
+        this.idempotencyRetention = idempotencyRetention;
+    }
+
+    /**
+     * Sells every line of a basket atomically.
+     *
+     * @param idempotencyKey   Client key identifying the submission
+     * @param basketRequestDTO The lines of the basket
+     * @return Receipt with one sales transaction per line
+     * @throws InvalidIdempotencyKeyException if the key is blank or too long
+     * @throws IdempotencyKeyConflictException if the key was already used for a different basket
+     * @throws TextbookNotFoundException if a line's ISBN has no stock rows
+     * @throws InsufficientStockException if a line has fewer copies on hand than requested
+     */
+    @Transactional
+    public BasketReceiptDTO processBasket(String idempotencyKey, BasketRequestDTO basketRequestDTO) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(
+                    "The idempotency key must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+
+        List<SaleLineDTO> lines = normalize(basketRequestDTO.lines());
+        String requestHash = hash(lines);
+
+        if (!basketRepository.claim(idempotencyKey, requestHash)) {
+            return replay(idempotencyKey, requestHash);
+        }
+
+        int[] sold = stockRepository.sellAll(lines);
+        for (int i = 0; i < sold.length; i++) {
+            if (sold[i] != 1) {
+                SaleLineDTO line = lines.get(i);
+                throw stockService.saleRejected(line.isbn(), line.condition(), line.quantity());
+            }
+        }
+
+        Map<UUID, BigDecimal> totals = stockRepository.findTotalsOfCurrentTransaction(
+                lines.stream().map(SaleLineDTO::transactionId).toList());
+        List<SaleReceiptDTO> receipts = lines.stream()
+                .map(line -> new SaleReceiptDTO(line.transactionId(), line.isbn(), line.condition(), line.quantity(),
+                        totals.get(line.transactionId())))
+                .toList();
+        BigDecimal totalAmount = receipts.stream()
+                .map(SaleReceiptDTO::totalAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        outboxRepository.append(lines.stream()
+                .map(line -> InventoryChangeEvent.of(InventoryChangeType.SALE, line.isbn(), line.condition(),
+                        -line.quantity(), line.transactionId().toString()))
+                .toList());
+
+        BasketReceiptDTO receipt = new BasketReceiptDTO(idempotencyKey, receipts, totalAmount);
+        basketRepository.saveResponse(idempotencyKey, jsonMapper.writeValueAsString(receipt));
+
+        logger.debug("Sold basket {} with {} lines", idempotencyKey, lines.size());
+        return receipt;
+    }
+
+    /**
+     * Removes idempotency records older than the retention, after which a register can no
+     * longer retry the submission.
+     */
+    @Scheduled(fixedDelayString = "${inventory.baskets.purge-interval-ms:3600000}")
+    public void purgeExpiredKeys() {
+        int purged = basketRepository.deleteCreatedBefore(Instant.now().minus(idempotencyRetention));
+        if (purged > 0) {
+            logger.debug("Purged {} basket idempotency records", purged);
+        }
+    }
+
+    private BasketReceiptDTO replay(String idempotencyKey, String requestHash) {
+        BasketRepository.StoredBasket stored = basketRepository.find(idempotencyKey)
+                .orElseThrow(() -> new IllegalStateException("Basket disappeared for key " + idempotencyKey));
+        if (!stored.requestHash().equals(requestHash) || stored.response() == null) {
+            throw new IdempotencyKeyConflictException("Idempotency key " + idempotencyKey + " was used for a different basket");
+        }
+
+        logger.debug("Replaying basket {}", idempotencyKey);
+        return jsonMapper.readValue(stored.response(), BasketReceiptDTO.class);
+    }
+
+    /**
+     * Normalizes ISBNs, merges repeated (isbn, condition) lines and sorts the lines so that
+     * concurrent baskets lock stock rows in the same order and cannot deadlock.
+     */
+    private static List<SaleLineDTO> normalize(List<SaleRequestDTO> requestLines) {
+        Map<String, SaleLineDTO> merged = new LinkedHashMap<>();
+        for (SaleRequestDTO requestLine : requestLines) {
+            if (requestLine.quantity() <= 0) {
+                throw new IllegalArgumentException("Quantity must be greater than 0");
+            }
+            String isbn = Isbn.normalize(requestLine.isbn());
+            merged.merge(isbn + ':' + requestLine.condition(),
+                    new SaleLineDTO(null, isbn, requestLine.condition(), requestLine.quantity()),
+                    (existing, added) -> new SaleLineDTO(null, isbn, existing.condition(), existing.quantity() + added.quantity()));
+        }
+
+        return merged.values().stream()
+                .sorted(Comparator.comparing(SaleLineDTO::isbn).thenComparing(SaleLineDTO::condition))
+                .map(line -> new SaleLineDTO(UUID.randomUUID(), line.isbn(), line.condition(), line.quantity()))
+                .toList();
+    }
+
+    private static String hash(List<SaleLineDTO> lines) {
+        StringBuilder canonical = new StringBuilder();
+        for (SaleLineDTO line : lines) {
+            canonical.append(line.isbn()).append(':').append(line.condition()).append(':').append(line.quantity()).append(';');
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.modern.studios.inventory.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import com.modern.studios.inventory.dto.TextbookDTO;
+
+/**
+ * In-memory inverted index over the title, author, publisher, course code and ISBN of
+ * every catalog entry.
+ * <p>
+ * Terms are kept in a sorted map so a query token matches every term it is a prefix of,
+ * and non-numeric tokens of three or more characters also match terms containing them,
+ * found through a trigram index over the term dictionary rather than over the documents. Each query
+ * token must match at least one term of a textbook; the most selective token is resolved
+ * first and the others either narrow its candidates directly or are intersected as bit sets,
+ * whichever touches fewer entries.
+ * <p>
+ * Replacing a textbook tombstones its previous document, and the index is compacted once
+ * tombstones outnumber live documents. Searches share a read lock; updates take the write lock.
+ */
+public final class CatalogSearchIndex {
+
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final int MIN_COMPACTION_TOMBSTONES = 1024;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<TextbookDTO> documents = new ArrayList<>();
+    private final List<String[]> documentTerms = new ArrayList<>();
+    private final List<String> sortKeys = new ArrayList<>();
+    private final Map<String, Integer> documentIdsByIsbn = new HashMap<>();
+    private final BitSet tombstones = new BitSet();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final Map<String, List<String>> termsByTrigram = new HashMap<>();
+    private long postingsTotal;
+
+    /**
+     * Adds or replaces textbooks, keyed by ISBN.
+     *
+     * @param textbooks The textbooks to index
+     */
+    public void putAll(Collection<TextbookDTO> textbooks) {
+        lock.writeLock().lock();
+        try {
+            textbooks.forEach(this::putLocked);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a textbook, keyed by ISBN.
+     *
+     * @param textbook The textbook to index
+     */
+    public void put(TextbookDTO textbook) {
+        putAll(List.of(textbook));
+    }
+
+    /**
+     * @return The number of textbooks in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentIdsByIsbn.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the textbooks matching every token of the query.
+     *
+     * @param query Free text; each word may be a prefix or a fragment of a catalog word
+     * @param limit Maximum number of results
+     * @return Matching textbooks ordered by title
+     */
+    public List<TextbookDTO> search(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Set<String>> matchesPerToken = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Set<String> matches = matchingTerms(token);
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+                matchesPerToken.add(matches);
+            }
+            matchesPerToken.sort(Comparator.comparingLong(this::postingCount));
+
+            BitSet candidates = union(matchesPerToken.get(0));
+            candidates.andNot(tombstones);
+            for (Set<String> matches : matchesPerToken.subList(1, matchesPerToken.size())) {
+                if (candidates.isEmpty()) {
+                    return List.of();
+                }
+                narrow(candidates, matches);
+            }
+
+            return topByTitle(candidates, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putLocked(TextbookDTO textbook) {
+        Integer previous = documentIdsByIsbn.get(textbook.isbn());
+        if (previous != null) {
+            if (documents.get(previous).equals(textbook)) {
+                return;
+            }
+            tombstones.set(previous);
+        }
+
+        int documentId = documents.size();
+        String[] terms = termsOf(textbook);
+        documents.add(textbook);
+        documentTerms.add(terms);
+        sortKeys.add(textbook.title().toLowerCase(Locale.ROOT) + '\0' + textbook.isbn());
+        documentIdsByIsbn.put(textbook.isbn(), documentId);
+
+        for (String term : terms) {
+            postings.computeIfAbsent(term, this::newTerm).add(documentId);
+        }
+        postingsTotal += terms.length;
+    }
+
+    private Postings newTerm(String term) {
+        // Numbers such as ISBNs and course numbers are only matched by prefix
+        if (!isNumeric(term)) {
+            for (String trigram : trigramsOf(term)) {
+                termsByTrigram.computeIfAbsent(trigram, key -> new ArrayList<>()).add(term);
+            }
+        }
+        return new Postings();
+    }
+
+    private void compactIfNeeded() {
+        int dead = tombstones.cardinality();
+        if (dead < MIN_COMPACTION_TOMBSTONES || dead < documentIdsByIsbn.size()) {
+            return;
+        }
+
+        List<TextbookDTO> live = new ArrayList<>(documentIdsByIsbn.size());
+        for (int id = tombstones.nextClearBit(0); id < documents.size(); id = tombstones.nextClearBit(id + 1)) {
+            live.add(documents.get(id));
+        }
+        documents.clear();
+        documentTerms.clear();
+        sortKeys.clear();
+        documentIdsByIsbn.clear();
+        tombstones.clear();
+        postings.clear();
+        termsByTrigram.clear();
+        postingsTotal = 0;
+        live.forEach(this::putLocked);
+    }
+
+    private Set<String> matchingTerms(String token) {
+        Set<String> matches = new HashSet<>(postings.subMap(token, true, token + Character.MAX_VALUE, false).keySet());
+        if (token.length() < TRIGRAM_LENGTH || isNumeric(token)) {
+            return matches;
+        }
+
+        // Every term containing the token contains all of its trigrams: scan the rarest one
+        List<String> rarest = null;
+        for (String trigram : trigramsOf(token)) {
+            List<String> terms = termsByTrigram.get(trigram);
+            if (terms == null) {
+                return matches;
+            }
+            if (rarest == null || terms.size() < rarest.size()) {
+                rarest = terms;
+            }
+        }
+        for (String term : rarest) {
+            if (term.contains(token)) {
+                matches.add(term);
+            }
+        }
+        return matches;
+    }
+
+    private long postingCount(Set<String> terms) {
+        long count = 0;
+        for (String term : terms) {
+            count += postings.get(term).size;
+        }
+        return count;
+    }
+
+    private BitSet union(Set<String> terms) {
+        BitSet documentIds = new BitSet(documents.size());
+        for (String term : terms) {
+            Postings termPostings = postings.get(term);
+            for (int i = 0; i < termPostings.size; i++) {
+                documentIds.set(termPostings.documentIds[i]);
+            }
+        }
+        return documentIds;
+    }
+
+    private void narrow(BitSet candidates, Set<String> terms) {
+        // Check the candidates' own terms when that is cheaper than walking the token's postings
+        long checkCost = (long) candidates.cardinality() * averageTermsPerDocument();
+        if (checkCost < postingCount(terms)) {
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                if (!containsAny(documentTerms.get(id), terms)) {
+                    candidates.clear(id);
+                }
+            }
+        } else {
+            candidates.and(union(terms));
+        }
+    }
+
+    private long averageTermsPerDocument() {
+        return documents.isEmpty() ? 1 : Math.max(1, postingsTotal / documents.size());
+    }
+
+    private static boolean containsAny(String[] documentTerms, Set<String> terms) {
+        for (String term : documentTerms) {
+            if (terms.contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<TextbookDTO> topByTitle(BitSet candidates, int limit) {
+        Comparator<Integer> byTitle = Comparator.comparing(sortKeys::get);
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, byTitle.reversed());
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (top.size() < limit) {
+                top.add(id);
+            } else if (byTitle.compare(id, top.peek()) < 0) {
+                top.poll();
+                top.add(id);
+            }
+        }
+
+        Integer[] ids = top.toArray(Integer[]::new);
+        Arrays.sort(ids, byTitle);
+        return Arrays.stream(ids).map(documents::get).toList();
+    }
+
+    private static String[] termsOf(TextbookDTO textbook) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(textbook.isbn());
+        terms.addAll(tokenize(textbook.title()));
+        terms.addAll(tokenize(textbook.author()));
+        terms.addAll(tokenize(textbook.publisher()));
+        if (textbook.courseCode() != null) {
+            List<String> courseTokens = tokenize(textbook.courseCode());
+            terms.addAll(courseTokens);
+            // "CHEM 101" is also typed as "chem101"
+            terms.add(String.join("", courseTokens));
+        }
+        terms.remove("");
+        return terms.toArray(String[]::new);
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        // Fold accents so unaccented queries match; most catalog text is ASCII and skips the normalizer
+        String folded = text.chars().allMatch(c -> c < 0x80)
+                ? text
+                : COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(TOKEN_SEPARATOR.split(folded.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static boolean isNumeric(String term) {
+        return term.chars().allMatch(Character::isDigit);
+    }
+
+    private static Set<String> trigramsOf(String term) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= term.length(); i++) {
+            trigrams.add(term.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Growable array of document ids, ascending because ids are assigned in insertion order.
+     */
+    private static final class Postings {
+
+        private int[] documentIds = new int[4];
+        private int size;
+
+        void add(int documentId) {
+            if (size == documentIds.length) {
+                documentIds = Arrays.copyOf(documentIds, size * 2);
+            }
+            documentIds[size++] = documentId;
+        }
+    }
+}
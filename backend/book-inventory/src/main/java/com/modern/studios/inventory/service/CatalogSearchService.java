@@ -0,0 +1,140 @@
+package com.modern.studios.inventory.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.modern.studios.inventory.dto.TextbookDTO;
+import com.modern.studios.inventory.repository.CatalogSearchRepository;
+import com.modern.studios.inventory.repository.TextbookRepository;
+
+/**
+ * Catalog search served from an in-process {@link CatalogSearchIndex}. The index is built
+ * from the catalog once the application is ready and then kept current by polling for rows
+ * changed since the last refresh, which also picks up changes made through other instances.
+ * Changes made through this instance are indexed as soon as they commit. Until the first
+ * build completes, searches fall back to the trigram-indexed ILIKE query.
+ */
+@Service
+public class CatalogSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSearchService.class);
+    private static final int REFRESH_BATCH_SIZE = 10_000;
+
+    private final CatalogSearchRepository catalogSearchRepository;
+    private final TextbookRepository textbookRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration refreshOverlap;
+    private final CatalogSearchIndex index = new CatalogSearchIndex();
+
+    private volatile boolean ready;
+    private Instant watermark = Instant.EPOCH;
+
+    public CatalogSearchService(CatalogSearchRepository catalogSearchRepository,
+                                TextbookRepository textbookRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${inventory.catalog-search.refresh-overlap:10s}") Duration refreshOverlap) {
+        this.catalogSearchRepository = catalogSearchRepository;
+        this.textbookRepository = textbookRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.refreshOverlap = refreshOverlap;
+    }
+
+    /**
+     * Searches the catalog by title, author, publisher, course code or ISBN.
+     *
+     * @param query The words to look for; each may be a prefix or a fragment
+     * @param limit Maximum number of results
+     * @return Matching textbooks ordered by title
+     */
+    public List<TextbookDTO> search(String query, int limit) {
+        if (StringUtils.isBlank(query)) {
+            return List.of();
+        }
+        if (ready) {
+            return index.search(query, limit);
+        }
+
+        return textbookRepository.searchByPattern("%" + escapeLikePattern(query.trim()) + "%", limit)
+                .stream()
+                .map(TextbookDTO::new)
+                .toList();
+    }
+
+    /**
+     * Indexes a textbook once the current transaction commits, or immediately when no
+     * transaction is active.
+     *
+     * @param textbook The added or changed textbook
+     */
+    public void indexAfterCommit(TextbookDTO textbook) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.put(textbook);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.put(textbook);
+            }
+        });
+    }
+
+    /**
+     * Builds the index from the whole catalog.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long started = System.nanoTime();
+        refresh();
+        logger.info("Catalog search index built with {} textbooks in {} ms",
+                index.size(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    /**
+     * Indexes the textbooks changed since the previous refresh. The lower bound is pulled
+     * back by the overlap so rows whose transaction committed after a later one are not
+     * missed; re-indexing an unchanged textbook is a no-op.
+     */
+    @Scheduled(fixedDelayString = "${inventory.catalog-search.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        Instant since = watermark.equals(Instant.EPOCH) ? Instant.EPOCH : watermark.minus(refreshOverlap);
+        List<TextbookDTO> batch = new ArrayList<>(REFRESH_BATCH_SIZE);
+        Instant[] latest = {watermark};
+
+        transactionTemplate.executeWithoutResult(status -> catalogSearchRepository.forEachUpdatedSince(since, entry -> {
+            batch.add(entry.textbook());
+            if (entry.updatedAt().isAfter(latest[0])) {
+                latest[0] = entry.updatedAt();
+            }
+            if (batch.size() == REFRESH_BATCH_SIZE) {
+                index.putAll(batch);
+                batch.clear();
+            }
+        }));
+        index.putAll(batch);
+
+        watermark = latest[0];
+        ready = true;
+    }
+
+    private static String escapeLikePattern(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
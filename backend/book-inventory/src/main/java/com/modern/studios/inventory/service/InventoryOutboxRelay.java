@@ -0,0 +1,133 @@
+package com.modern.studios.inventory.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.modern.studios.inventory.event.LowStockEventType;
+import com.modern.studios.inventory.event.OutboxMessage;
+import com.modern.studios.inventory.repository.OutboxRepository;
+
+/**
+ * Drains the inventory outbox to Kafka. Batches are read, sent and deleted while holding the
+ * relay lease, without a surrounding transaction, so a stalled broker holds neither a pooled
+ * connection nor row locks while the sends are awaited. Rows are only removed once every record
+ * of the batch was acknowledged; a failed send leaves them for the next run, in the same order.
+ * Delivery is at-least-once; consumers deduplicate on the event id.
+ * Threshold crossings go to their own topic so alert subscribers do not consume every sale.
+ */
+@Service
+@ConditionalOnProperty(name = "inventory.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class InventoryOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryOutboxRelay.class);
+    private static final Set<String> LOW_STOCK_EVENT_TYPES = Arrays.stream(LowStockEventType.values())
+            .map(Enum::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final OutboxRepository outboxRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topic;
+    private final String lowStockTopic;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration lease;
+    private final String relayId = UUID.randomUUID().toString();
+
+    public InventoryOutboxRelay(OutboxRepository outboxRepository,
+                                KafkaTemplate<String, String> kafkaTemplate,
+                                @Value("${inventory.outbox.topic:inventory-changes}") String topic,
+                                @Value("${inventory.outbox.low-stock-topic:inventory-low-stock}") String lowStockTopic,
+                                @Value("${inventory.outbox.batch-size:500}") int batchSize,
+                                @Value("${inventory.outbox.send-timeout:10s}") Duration sendTimeout,
+                                @Value("${inventory.outbox.relay-lease:30s}") Duration lease) {
+        if (lease.compareTo(sendTimeout.multipliedBy(2)) < 0) {
+            throw new IllegalArgumentException("inventory.outbox.relay-lease must be at least twice inventory.outbox.send-timeout");
+        }
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.lowStockTopic = lowStockTopic;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.lease = lease;
+    }
+
+    /**
+     * Publishes pending events batch by batch until the outbox is empty.
+     */
+    @Scheduled(fixedDelayString = "${inventory.outbox.relay-interval-ms:200}")
+    public void relayPending() {
+        try {
+            int published;
+            do {
+                published = publishBatch();
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Inventory outbox relay failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sends one batch and deletes it once Kafka acknowledged every record. The lease is renewed
+     * before each batch and outlasts the send timeout, so it cannot expire while acks are awaited.
+     *
+     * @return The number of events published
+     */
+    int publishBatch() {
+        if (!outboxRepository.tryAcquireRelayLease(relayId, lease)) {
+            return 0;
+        }
+
+        List<OutboxMessage> pending = outboxRepository.findPending(batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        CompletableFuture<?>[] sends = pending.stream()
+                .map(message -> kafkaTemplate.send(topicFor(message), message.key(), message.payload()))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing inventory events", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to publish inventory events", e);
+        }
+
+        outboxRepository.delete(pending.stream().map(OutboxMessage::id).toList());
+        logger.debug("Published {} inventory events", pending.size());
+        return pending.size();
+    }
+
+    /**
+     * Hands the lease over on shutdown instead of letting other replicas wait for it to expire.
+     */
+    @PreDestroy
+    void releaseLease() {
+        try {
+            outboxRepository.releaseRelayLease(relayId);
+        } catch (RuntimeException e) {
+            logger.warn("Unable to release the outbox relay lease, it expires on its own: {}", e.getMessage());
+        }
+    }
+
+    private String topicFor(OutboxMessage message) {
+        return LOW_STOCK_EVENT_TYPES.contains(message.eventType()) ? lowStockTopic : topic;
+    }
+}
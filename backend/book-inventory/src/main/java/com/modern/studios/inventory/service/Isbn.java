@@ -0,0 +1,85 @@
+package com.modern.studios.inventory.service;
+
+import com.modern.studios.inventory.exception.InvalidIsbnException;
+
+/**
+ * ISBN normalization. Every ISBN is stored and looked up as a 13-digit string without
+ * separators, so "0-306-40615-2" and "978-0-306-40615-7" resolve to the same textbook.
+ */
+public final class Isbn {
+
+    private Isbn() {
+    }
+
+    /**
+     * Normalizes an ISBN-10 or ISBN-13 to a bare ISBN-13.
+     *
+     * @param isbn ISBN with or without hyphens and spaces
+     * @return The 13-digit ISBN
+     * @throws InvalidIsbnException if the ISBN is malformed or its check digit is wrong
+     */
+    public static String normalize(String isbn) {
+        if (isbn == null) {
+            throw new InvalidIsbnException("ISBN is required");
+        }
+
+        StringBuilder digits = new StringBuilder(13);
+        for (int i = 0; i < isbn.length(); i++) {
+            char c = isbn.charAt(i);
+            if (c == '-' || c == ' ') {
+                continue;
+            }
+            digits.append(Character.toUpperCase(c));
+        }
+
+        String compact = digits.toString();
+        if (compact.length() == 10 && isValidIsbn10(compact)) {
+            String isbn13 = "978" + compact.substring(0, 9);
+            return isbn13 + isbn13CheckDigit(isbn13);
+        }
+        if (compact.length() == 13 && isValidIsbn13(compact)) {
+            return compact;
+        }
+        throw new InvalidIsbnException("Invalid ISBN: " + isbn);
+    }
+
+    private static boolean isValidIsbn10(String isbn) {
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            char c = isbn.charAt(i);
+            int value;
+            if (c >= '0' && c <= '9') {
+                value = c - '0';
+            } else if (c == 'X' && i == 9) {
+                value = 10;
+            } else {
+                return false;
+            }
+            sum += value * (10 - i);
+        }
+        return sum % 11 == 0;
+    }
+
+    private static boolean isValidIsbn13(String isbn) {
+        if (!isbn.startsWith("978") && !isbn.startsWith("979")) {
+            return false;
+        }
+        for (int i = 0; i < 13; i++) {
+            // ASCII only: Character.isDigit accepts other scripts' digits, which the database rejects
+            char c = isbn.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return isbn13CheckDigit(isbn.substring(0, 12)) == isbn.charAt(12);
+    }
+
+    private static char isbn13CheckDigit(String first12) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int digit = first12.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+}
@@ -0,0 +1,41 @@
+package com.modern.studios.inventory.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.modern.studios.inventory.dto.LowStockItemDTO;
+import com.modern.studios.inventory.repository.LowStockRepository;
+
+/**
+ * Service for low stock alerting. Threshold crossings are detected by the database at the
+ * moment a stock row changes and published as {@link com.modern.studios.inventory.event.LowStockEvent}s,
+ * so subscribers follow the change feed and these reports read only the current set.
+ */
+@Service
+public class LowStockService {
+
+    private final LowStockRepository lowStockRepository;
+
+    public LowStockService(LowStockRepository lowStockRepository) {
+        this.lowStockRepository = lowStockRepository;
+    }
+
+    /**
+     * Lists the textbooks that have fallen below their minimum threshold (checkReorderThresholds).
+     *
+     * @return ISBNs requiring reordering
+     */
+    public List<String> checkReorderThresholds() {
+        return lowStockRepository.findIsbns();
+    }
+
+    /**
+     * Lists the stock rows below their minimum threshold with their current quantities.
+     *
+     * @return The low stock report
+     */
+    public List<LowStockItemDTO> getLowStockReport() {
+        return lowStockRepository.findAll();
+    }
+}
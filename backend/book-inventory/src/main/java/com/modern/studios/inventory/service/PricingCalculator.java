@@ -0,0 +1,86 @@
+package com.modern.studios.inventory.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Exact retail price arithmetic. Prices are whole cents and rates are basis points
+ * (1/100 of a percent), so the hot path is integer multiplication with half-up rounding
+ * and produces the same result as the {@link BigDecimal} overloads.
+ */
+public final class PricingCalculator {
+
+    public static final int BASIS_POINTS = 10_000;
+
+    private PricingCalculator() {
+    }
+
+    /**
+     * Calculates the selling price of a new copy (calculateNewRetailPrice).
+     *
+     * @param invoiceCostCents    Wholesale cost in cents, non-negative
+     * @param markupBasisPoints   Markup in basis points, non-negative (2500 = 25%)
+     * @return The retail price in cents, rounded half up
+     */
+    public static long newRetailPriceCents(long invoiceCostCents, int markupBasisPoints) {
+        if (invoiceCostCents < 0 || markupBasisPoints < 0) {
+            throw new IllegalArgumentException("Invoice cost and markup must be non-negative");
+        }
+        return divideHalfUp(Math.multiplyExact(invoiceCostCents, BASIS_POINTS + (long) markupBasisPoints));
+    }
+
+    /**
+     * Calculates the selling price of a used copy (calculateUsedRetailPrice).
+     *
+     * @param newRetailPriceCents     Shelf price of a new copy in cents, greater than 0
+     * @param depreciationBasisPoints Discount off the new price in basis points, between 0 and 10000
+     * @return The used retail price in cents, rounded half up
+     */
+    public static long usedRetailPriceCents(long newRetailPriceCents, int depreciationBasisPoints) {
+        if (newRetailPriceCents <= 0) {
+            throw new IllegalArgumentException("New retail price must be greater than 0");
+        }
+        if (depreciationBasisPoints < 0 || depreciationBasisPoints > BASIS_POINTS) {
+            throw new IllegalArgumentException("Depreciation rate must be between 0 and 1");
+        }
+        return divideHalfUp(Math.multiplyExact(newRetailPriceCents, (long) (BASIS_POINTS - depreciationBasisPoints)));
+    }
+
+    public static BigDecimal calculateNewRetailPrice(BigDecimal invoiceCost, BigDecimal markupPercentage) {
+        return fromCents(newRetailPriceCents(toCents(invoiceCost), toBasisPoints(markupPercentage)));
+    }
+
+    public static BigDecimal calculateUsedRetailPrice(BigDecimal newRetailPrice, BigDecimal depreciationRate) {
+        return fromCents(usedRetailPriceCents(toCents(newRetailPrice), toBasisPoints(depreciationRate)));
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Converts a rate such as 0.25 to basis points.
+     *
+     * @throws IllegalArgumentException if the rate has more than four decimal places
+     */
+    public static int toBasisPoints(BigDecimal rate) {
+        try {
+            return rate.movePointRight(4).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Rates are limited to four decimal places: " + rate.toPlainString());
+        }
+    }
+
+    public static BigDecimal fromBasisPoints(int basisPoints) {
+        return BigDecimal.valueOf(basisPoints, 4);
+    }
+
+    // Inputs are non-negative, so adding half the divisor rounds half up
+    private static long divideHalfUp(long scaled) {
+        return (scaled + BASIS_POINTS / 2) / BASIS_POINTS;
+    }
+}
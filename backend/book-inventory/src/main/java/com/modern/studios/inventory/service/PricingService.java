@@ -0,0 +1,195 @@
+package com.modern.studios.inventory.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.modern.studios.inventory.dto.PricingPolicyDTO;
+import com.modern.studios.inventory.dto.RepricingResultDTO;
+import com.modern.studios.inventory.dto.StockCostDTO;
+import com.modern.studios.inventory.dto.StockPriceDTO;
+import com.modern.studios.inventory.exception.InvalidPricingException;
+import com.modern.studios.inventory.repository.PricingRepository;
+
+/**
+ * Service for retail prices. Prices are computed once and stored on the stock rows, which
+ * sales read directly. A title is only repriced when its average cost or the store policy
+ * changed since it was last priced; repricing walks those titles in ISBN chunks that are
+ * priced and written in parallel, each chunk in its own transaction.
+ */
+@Service
+public class PricingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PricingService.class);
+
+    private final PricingRepository pricingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int threads;
+    private final AtomicBoolean repricing = new AtomicBoolean();
+
+    public PricingService(PricingRepository pricingRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${inventory.pricing.chunk-size:1000}") int chunkSize,
+                          @Value("${inventory.pricing.threads:4}") int threads) {
+        this.pricingRepository = pricingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.threads = threads;
+    }
+
+    /**
+     * Calculates the selling price for a new textbook (calculateNewRetailPrice).
+     *
+     * @param invoiceCost      Wholesale cost, non-negative
+     * @param markupPercentage Markup rate, non-negative (0.25 for 25%)
+     * @return The retail price rounded half up to two decimal places
+     * @throws InvalidPricingException if an input is out of range
+     */
+    public BigDecimal calculateNewRetailPrice(BigDecimal invoiceCost, BigDecimal markupPercentage) {
+        try {
+            return PricingCalculator.calculateNewRetailPrice(invoiceCost, markupPercentage);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new InvalidPricingException(e.getMessage());
+        }
+    }
+
+    /**
+     * Calculates the selling price for a used textbook (calculateUsedRetailPrice).
+     *
+     * @param newRetailPrice   Shelf price of a new copy, greater than 0
+     * @param depreciationRate Discount off the new price (0.25 for 25% off)
+     * @return The used price rounded half up to two decimal places
+     * @throws InvalidPricingException if an input is out of range
+     */
+    public BigDecimal calculateUsedRetailPrice(BigDecimal newRetailPrice, BigDecimal depreciationRate) {
+        try {
+            return PricingCalculator.calculateUsedRetailPrice(newRetailPrice, depreciationRate);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new InvalidPricingException(e.getMessage());
+        }
+    }
+
+    public PricingPolicyDTO getPolicy() {
+        return pricingRepository.findPolicy();
+    }
+
+    /**
+     * Replaces the store pricing policy and marks every costed title for repricing.
+     *
+     * @param pricingPolicyDTO The new markup and depreciation rates
+     * @return The stored policy
+     * @throws InvalidPricingException if a rate has more than four decimal places
+     */
+    @Transactional
+    public PricingPolicyDTO updatePolicy(PricingPolicyDTO pricingPolicyDTO) {
+        try {
+            pricingRepository.updatePolicy(
+                    PricingCalculator.toBasisPoints(pricingPolicyDTO.markupPercentage()),
+                    PricingCalculator.toBasisPoints(pricingPolicyDTO.depreciationRate()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPricingException(e.getMessage());
+        }
+        return pricingRepository.findPolicy();
+    }
+
+    /**
+     * Reprices every title whose cost or policy changed. Runs on a schedule and on demand;
+     * a run that starts while another is in progress returns immediately.
+     *
+     * @return The number of titles repriced and how long it took
+     */
+    @Scheduled(fixedDelayString = "${inventory.pricing.reprice-interval-ms:900000}")
+    public RepricingResultDTO repriceCatalog() {
+        if (!repricing.compareAndSet(false, true)) {
+            logger.debug("Repricing already in progress");
+            return new RepricingResultDTO(0, 0);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            int repriced = repriceStaleTitles();
+            long durationMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            if (repriced > 0) {
+                logger.info("Repriced {} titles in {} ms", repriced, durationMillis);
+            }
+            return new RepricingResultDTO(repriced, durationMillis);
+        } finally {
+            repricing.set(false);
+        }
+    }
+
+    private int repriceStaleTitles() {
+        long policyVersion = pricingRepository.findPolicyVersion();
+        PricingPolicyDTO policy = pricingRepository.findPolicy();
+        int markup = PricingCalculator.toBasisPoints(policy.markupPercentage());
+        int depreciation = PricingCalculator.toBasisPoints(policy.depreciationRate());
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        // Bounds the chunks read ahead of the workers
+        Semaphore inFlight = new Semaphore(threads * 2);
+        List<Future<Integer>> chunks = new ArrayList<>();
+        try {
+            String afterIsbn = "";
+            List<StockCostDTO> chunk;
+            do {
+                chunk = pricingRepository.findStale(afterIsbn, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                afterIsbn = chunk.getLast().isbn();
+
+                inFlight.acquireUninterruptibly();
+                List<StockCostDTO> costs = chunk;
+                chunks.add(workers.submit(() -> {
+                    try {
+                        return repriceChunk(costs, markup, depreciation, policyVersion);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            } while (chunk.size() == chunkSize);
+
+            int repriced = 0;
+            for (Future<Integer> result : chunks) {
+                repriced += result.get();
+            }
+            return repriced;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while repricing", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Repricing failed", e.getCause());
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    private int repriceChunk(List<StockCostDTO> costs, int markup, int depreciation, long policyVersion) {
+        List<StockPriceDTO> prices = new ArrayList<>(costs.size());
+        for (StockCostDTO cost : costs) {
+            long newPriceCents = PricingCalculator.newRetailPriceCents(PricingCalculator.toCents(cost.averageCost()), markup);
+            long usedPriceCents = newPriceCents > 0 ? PricingCalculator.usedRetailPriceCents(newPriceCents, depreciation) : 0;
+            prices.add(new StockPriceDTO(cost.isbn(), cost.averageCost(),
+                    PricingCalculator.fromCents(newPriceCents), PricingCalculator.fromCents(usedPriceCents)));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> pricingRepository.updatePrices(prices, policyVersion));
+        return prices.size();
+    }
+}
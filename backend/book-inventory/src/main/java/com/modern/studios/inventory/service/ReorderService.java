@@ -0,0 +1,171 @@
+package com.modern.studios.inventory.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.modern.studios.inventory.dto.PlaceOrderDTO;
+import com.modern.studios.inventory.dto.PurchaseOrderDTO;
+import com.modern.studios.inventory.dto.PurchaseOrderLineDTO;
+import com.modern.studios.inventory.dto.ReorderSuggestionDTO;
+import com.modern.studios.inventory.exception.TextbookNotFoundException;
+import com.modern.studios.inventory.exception.VendorNotFoundException;
+import com.modern.studios.inventory.repository.PurchaseOrderRepository;
+
+/**
+ * Service for ordering textbooks from vendors. The reorder engine reads the low-stock set
+ * together with sales velocity, open orders and vendor lead times in one query, then creates
+ * one purchase order per vendor, each in its own transaction with its lines written as a
+ * single JDBC batch. Each vendor's transaction holds an advisory lock on the vendor and
+ * re-reads what is on order under it, so concurrent runs, on this or another replica, do
+ * not order the same copies twice.
+ */
+@Service
+public class ReorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReorderService.class);
+
+    private final PurchaseOrderRepository purchaseOrderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int velocityWindowDays;
+    private final int reviewPeriodDays;
+
+    public ReorderService(PurchaseOrderRepository purchaseOrderRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${inventory.reorder.velocity-window-days:28}") int velocityWindowDays,
+                          @Value("${inventory.reorder.review-period-days:14}") int reviewPeriodDays) {
+        this.purchaseOrderRepository = purchaseOrderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.velocityWindowDays = velocityWindowDays;
+        this.reviewPeriodDays = reviewPeriodDays;
+    }
+
+    /**
+     * Orders copies of a single title from a vendor (placeTextbookOrder).
+     *
+     * @param placeOrderDTO The ISBN, vendor and quantity to order
+     * @return The created purchase order
+     * @throws VendorNotFoundException if the vendor does not exist
+     * @throws TextbookNotFoundException if the ISBN is not in the catalog
+     */
+    @Transactional
+    public PurchaseOrderDTO placeTextbookOrder(PlaceOrderDTO placeOrderDTO) {
+        if (placeOrderDTO.quantity() <= 0) {
+            throw new IllegalArgumentException("Quantity must be greater than 0");
+        }
+
+        String isbn = Isbn.normalize(placeOrderDTO.isbn());
+        int leadTimeDays = purchaseOrderRepository.findLeadTimeDays(placeOrderDTO.vendorId())
+                .orElseThrow(() -> new VendorNotFoundException("Vendor not found: " + placeOrderDTO.vendorId()));
+
+        try {
+            return createOrder(placeOrderDTO.vendorId(), leadTimeDays,
+                    List.of(new PurchaseOrderLineDTO(isbn, placeOrderDTO.quantity())));
+        } catch (DataIntegrityViolationException ex) {
+            throw new TextbookNotFoundException("Textbook not found with ISBN: " + isbn);
+        }
+    }
+
+    /**
+     * Sizes a reorder for every low-stock title that has a preferred vendor, without ordering.
+     *
+     * @return Suggestions grouped by vendor, including titles already covered by open orders
+     */
+    public List<ReorderSuggestionDTO> suggestReorders() {
+        return purchaseOrderRepository.findReorderCandidates(velocityWindowDays).stream()
+                .map(this::withSuggestedQuantity)
+                .toList();
+    }
+
+    /**
+     * Runs the reorder engine: creates one purchase order per vendor for every low-stock
+     * title whose demand is not already covered. A vendor whose order fails is logged and
+     * skipped; the orders of the other vendors are kept.
+     *
+     * @return The created purchase orders
+     */
+    public List<PurchaseOrderDTO> placeReorders() {
+        Map<String, List<ReorderSuggestionDTO>> suggestionsByVendor = suggestReorders().stream()
+                .filter(suggestion -> suggestion.suggestedQuantity() > 0)
+                .collect(Collectors.groupingBy(ReorderSuggestionDTO::vendorId, LinkedHashMap::new, Collectors.toList()));
+
+        List<PurchaseOrderDTO> orders = new ArrayList<>(suggestionsByVendor.size());
+        suggestionsByVendor.forEach((vendorId, suggestions) -> {
+            try {
+                PurchaseOrderDTO order = transactionTemplate.execute(status -> placeReorder(vendorId, suggestions));
+                if (order != null) {
+                    orders.add(order);
+                }
+            } catch (DataAccessException e) {
+                logger.error("Failed to place reorder with vendor {} for {} titles", vendorId, suggestions.size(), e);
+            }
+        });
+
+        logger.info("Reorder engine placed {} purchase orders for {} titles", orders.size(),
+                orders.stream().mapToInt(order -> order.lines().size()).sum());
+        return orders;
+    }
+
+    /**
+     * Places the order for one vendor's suggestions. Under the vendor lock, copies ordered
+     * since the suggestions were read, typically by a concurrent run, are taken off the
+     * suggested quantities.
+     *
+     * @return The created order, or null if everything is already on order
+     */
+    private PurchaseOrderDTO placeReorder(String vendorId, List<ReorderSuggestionDTO> suggestions) {
+        purchaseOrderRepository.lockVendorReorders(vendorId);
+        Map<String, Integer> onOrder = purchaseOrderRepository.findQuantitiesOnOrder(
+                suggestions.stream().map(ReorderSuggestionDTO::isbn).toList());
+
+        List<PurchaseOrderLineDTO> lines = new ArrayList<>(suggestions.size());
+        for (ReorderSuggestionDTO suggestion : suggestions) {
+            int orderedSince = Math.max(0, onOrder.getOrDefault(suggestion.isbn(), 0) - suggestion.quantityOnOrder());
+            int quantity = suggestion.suggestedQuantity() - orderedSince;
+            if (quantity > 0) {
+                lines.add(new PurchaseOrderLineDTO(suggestion.isbn(), quantity));
+            }
+        }
+        if (lines.isEmpty()) {
+            return null;
+        }
+        return createOrder(vendorId, suggestions.getFirst().leadTimeDays(), lines);
+    }
+
+    /**
+     * Orders enough copies to cover the demand expected until the next review after the
+     * vendor delivers, on top of the minimum threshold kept as safety stock, less what is
+     * on hand and already on order.
+     */
+    private ReorderSuggestionDTO withSuggestedQuantity(ReorderSuggestionDTO candidate) {
+        double dailyVelocity = (double) Math.max(candidate.unitsSold(), 0) / velocityWindowDays;
+        int expectedDemand = (int) Math.ceil(dailyVelocity * (candidate.leadTimeDays() + reviewPeriodDays));
+        int target = expectedDemand + candidate.minimumThreshold();
+        int suggestedQuantity = Math.max(0, target - candidate.quantityOnHand() - candidate.quantityOnOrder());
+
+        return new ReorderSuggestionDTO(candidate.isbn(), candidate.vendorId(), candidate.leadTimeDays(),
+                candidate.quantityOnHand(), candidate.minimumThreshold(), candidate.quantityOnOrder(),
+                candidate.unitsSold(), suggestedQuantity);
+    }
+
+    private PurchaseOrderDTO createOrder(String vendorId, int leadTimeDays, List<PurchaseOrderLineDTO> lines) {
+        String orderId = "PO-" + UUID.randomUUID();
+        LocalDate expectedArrival = LocalDate.now().plusDays(leadTimeDays);
+        purchaseOrderRepository.createOrder(orderId, vendorId, expectedArrival, lines);
+        return new PurchaseOrderDTO(orderId, vendorId, expectedArrival, lines);
+    }
+}
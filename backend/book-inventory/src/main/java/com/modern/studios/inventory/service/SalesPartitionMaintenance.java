@@ -0,0 +1,121 @@
+package com.modern.studios.inventory.service;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the monthly partitions of sales_transactions rolling: partitions for the coming
+ * months are created ahead so a sale never lacks a partition, and partitions older than the
+ * retention period are detached and moved to the archive schema, so the live table (and
+ * every lookup that is not pruned by date) stays the same size as history grows.
+ */
+@Component
+public class SalesPartitionMaintenance {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalesPartitionMaintenance.class);
+    private static final String PARTITION_PREFIX = "sales_transactions_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    // "SALES_PM": key of the advisory lock that keeps replicas from maintaining partitions concurrently
+    private static final long MAINTENANCE_LOCK_ID = 0x53414C45535F504DL;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String archiveSchema;
+
+    public SalesPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${inventory.sales.partition-months-ahead:3}") int monthsAhead,
+                                     @Value("${inventory.sales.partition-retention-months:13}") int retentionMonths,
+                                     @Value("${inventory.sales.archive-schema:book_inventory_archive}") String archiveSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = Clock.systemUTC();
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    /**
+     * Creates upcoming partitions and archives expired ones, in one transaction under an advisory lock.
+     */
+    @Scheduled(cron = "${inventory.sales.partition-maintenance-cron:0 30 3 * * *}", zone = "UTC")
+    public void maintainPartitions() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_ID);
+                if (!Boolean.TRUE.equals(locked)) {
+                    return;
+                }
+
+                YearMonth currentMonth = YearMonth.now(clock);
+                createPartitionsThrough(currentMonth.plusMonths(monthsAhead));
+                archivePartitionsBefore(currentMonth.minusMonths(retentionMonths));
+            });
+        } catch (RuntimeException e) {
+            logger.error("Sales partition maintenance failed", e);
+        }
+    }
+
+    private void createPartitionsThrough(YearMonth lastMonth) {
+        for (YearMonth month = YearMonth.now(clock); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                    + " PARTITION OF sales_transactions FOR VALUES FROM ('" + boundary(month)
+                    + "') TO ('" + boundary(month.plusMonths(1)) + "')");
+        }
+    }
+
+    private void archivePartitionsBefore(YearMonth cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits i
+                JOIN pg_class parent ON parent.oid = i.inhparent
+                JOIN pg_class child ON child.oid = i.inhrelid
+                JOIN pg_namespace n ON n.oid = parent.relnamespace
+                WHERE parent.relname = 'sales_transactions' AND n.nspname = current_schema()
+                ORDER BY child.relname
+                """, String.class);
+
+        String cutoffName = partitionName(cutoff);
+        for (String partition : partitions) {
+            // Names sort chronologically, so comparing them compares the months
+            if (!partition.startsWith(PARTITION_PREFIX) || partition.compareTo(cutoffName) >= 0) {
+                continue;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE sales_transactions DETACH PARTITION " + partition);
+            jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+            logger.info("Archived sales partition {} to schema {}", partition, archiveSchema);
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static String boundary(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+    }
+}
@@ -0,0 +1,120 @@
+package com.modern.studios.inventory.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.modern.studios.inventory.batch.ShipmentRejections;
+import com.modern.studios.inventory.configuration.ShipmentReceivingJobConfiguration;
+import com.modern.studios.inventory.dto.ShipmentReceivingResultDTO;
+import com.modern.studios.inventory.exception.ShipmentAlreadyReceivedException;
+
+@Service
+public class ShipmentReceivingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShipmentReceivingService.class);
+
+    private final JobOperator jobOperator;
+    private final Job shipmentReceivingJob;
+    private final Path inboxDirectory;
+
+    public ShipmentReceivingService(JobOperator jobOperator,
+                                    @Qualifier("shipmentReceivingJob") Job shipmentReceivingJob,
+                                    @Value("${inventory.shipments.inbox-dir:${java.io.tmpdir}/book-inventory/shipments}") Path inboxDirectory) {
+        this.jobOperator = jobOperator;
+        this.shipmentReceivingJob = shipmentReceivingJob;
+        this.inboxDirectory = inboxDirectory;
+    }
+
+    /**
+     * Receives a shipment from an ASN file. The file is stored under its SHA-256 hash, which
+     * identifies the job instance: uploading the same file again after a failure restarts
+     * the job from its last committed chunk instead of receiving the earlier lines twice.
+     * Invalid lines are skipped and reported. A corrected file is a new job instance, so each
+     * received line is also recorded under the ASN id, and the lines of a corrected upload of
+     * the same ASN that were already received are reported instead of received again.
+     *
+     * @param asnFile CSV file with the header {@code order_id,isbn,condition,quantity,unit_cost}
+     * @param asnId   Id of the advance shipping notice, or null to use the name of the uploaded file
+     * @return The outcome of the job execution, with the lines that were not received
+     * @throws ShipmentAlreadyReceivedException if the same file was already received successfully
+     */
+    public ShipmentReceivingResultDTO receiveShipment(MultipartFile asnFile, String asnId) {
+        Path inputFile = storeInInbox(asnFile);
+        String shipmentId = asnId != null && !asnId.isBlank() ? asnId.strip()
+                : asnFile.getOriginalFilename() != null ? asnFile.getOriginalFilename() : inputFile.getFileName().toString();
+        // The ASN id does not identify the job instance: the file contents do
+        JobParameters parameters = new JobParametersBuilder()
+                .addString(ShipmentReceivingJobConfiguration.INPUT_FILE_PARAMETER, inputFile.toString())
+                .addString(ShipmentReceivingJobConfiguration.ASN_ID_PARAMETER, shipmentId, false)
+                .toJobParameters();
+
+        JobExecution execution;
+        try {
+            execution = jobOperator.start(shipmentReceivingJob, parameters);
+        } catch (JobInstanceAlreadyCompleteException e) {
+            throw new ShipmentAlreadyReceivedException("Shipment file " + inputFile.getFileName() + " has already been received");
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to start the shipment receiving job", e);
+        }
+
+        logger.info("Shipment {} finished with status {}", inputFile.getFileName(), execution.getStatus());
+        return new ShipmentReceivingResultDTO(
+                execution.getId(),
+                execution.getStatus().name(),
+                execution.getExitStatus().getExitCode(),
+                execution.getStepExecutions().stream().mapToLong(step -> step.getReadCount()).sum(),
+                execution.getStepExecutions().stream().mapToLong(step -> step.getWriteCount()).sum(),
+                readRejections(inputFile)
+        );
+    }
+
+    private List<String> readRejections(Path inputFile) {
+        Path rejectionsFile = ShipmentRejections.fileFor(inputFile);
+        try {
+            return Files.exists(rejectionsFile) ? Files.readAllLines(rejectionsFile) : List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the shipment rejections file", e);
+        }
+    }
+
+    private Path storeInInbox(MultipartFile asnFile) {
+        try {
+            Files.createDirectories(inboxDirectory);
+            Path upload = Files.createTempFile(inboxDirectory, "upload-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(asnFile.getInputStream(), digest)) {
+                Files.copy(in, upload, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            Path target = inboxDirectory.resolve(HexFormat.of().formatHex(digest.digest()) + ".csv");
+            Files.move(upload, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target.toAbsolutePath();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to store the shipment file", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.modern.studios.inventory.service;
+
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Service;
+
+import com.modern.studios.inventory.dto.InventoryLevelDTO;
+import com.modern.studios.inventory.entity.StockCondition;
+import com.modern.studios.inventory.stream.StockLevelTopology;
+import com.modern.studios.inventory.stream.StockLevels;
+
+/**
+ * Answers inventory level lookups from the local Kafka Streams state store. Falls back to
+ * the database while the stream is not running, when the view is disabled, or when the
+ * title is not in the partitions hosted by this instance.
+ */
+@Service
+public class StockLevelViewService {
+
+    private final ObjectProvider<StreamsBuilderFactoryBean> streamsBuilderFactoryBean;
+    private final StockService stockService;
+
+    private volatile ReadOnlyKeyValueStore<String, StockLevels> store;
+
+    public StockLevelViewService(ObjectProvider<StreamsBuilderFactoryBean> streamsBuilderFactoryBean, StockService stockService) {
+        this.streamsBuilderFactoryBean = streamsBuilderFactoryBean;
+        this.stockService = stockService;
+    }
+
+    /**
+     * Retrieves the current stock count of a title from the materialized view.
+     *
+     * @param isbn      ISBN-10 or ISBN-13
+     * @param condition Condition to count, null for all conditions
+     * @return The inventory level
+     */
+    public InventoryLevelDTO getInventoryLevel(String isbn, StockCondition condition) {
+        String normalizedIsbn = Isbn.normalize(isbn);
+        ReadOnlyKeyValueStore<String, StockLevels> levels = store();
+        if (levels != null) {
+            try {
+                StockLevels stockLevels = levels.get(normalizedIsbn);
+                if (stockLevels != null) {
+                    return new InventoryLevelDTO(normalizedIsbn, condition != null ? condition.name() : "ALL",
+                            stockLevels.onHand(condition));
+                }
+            } catch (InvalidStateStoreException e) {
+                // Rebalance in progress: the store handle is reacquired on the next lookup
+                store = null;
+            }
+        }
+
+        return stockService.getInventoryLevel(normalizedIsbn, condition);
+    }
+
+    private ReadOnlyKeyValueStore<String, StockLevels> store() {
+        ReadOnlyKeyValueStore<String, StockLevels> current = store;
+        if (current != null) {
+            return current;
+        }
+
+        StreamsBuilderFactoryBean factoryBean = streamsBuilderFactoryBean.getIfAvailable();
+        KafkaStreams kafkaStreams = factoryBean != null ? factoryBean.getKafkaStreams() : null;
+        if (kafkaStreams == null || kafkaStreams.state() != KafkaStreams.State.RUNNING) {
+            return null;
+        }
+
+        try {
+            current = kafkaStreams.store(StoreQueryParameters.fromNameAndType(
+                    StockLevelTopology.STORE_NAME, QueryableStoreTypes.keyValueStore()));
+        } catch (InvalidStateStoreException e) {
+            return null;
+        }
+        store = current;
+        return current;
+    }
+}
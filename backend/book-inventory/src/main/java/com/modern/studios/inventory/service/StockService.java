@@ -0,0 +1,167 @@
+package com.modern.studios.inventory.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.modern.studios.inventory.dto.ConversionRequestDTO;
+import com.modern.studios.inventory.dto.CustomerReturnDTO;
+import com.modern.studios.inventory.dto.InventoryLevelDTO;
+import com.modern.studios.inventory.dto.ReturnReceiptDTO;
+import com.modern.studios.inventory.dto.SaleReceiptDTO;
+import com.modern.studios.inventory.dto.SaleRequestDTO;
+import com.modern.studios.inventory.entity.StockCondition;
+import com.modern.studios.inventory.event.InventoryChangeEvent;
+import com.modern.studios.inventory.event.InventoryChangeType;
+import com.modern.studios.inventory.exception.InsufficientStockException;
+import com.modern.studios.inventory.exception.ReturnExceedsSaleException;
+import com.modern.studios.inventory.exception.SaleNotFoundException;
+import com.modern.studios.inventory.exception.TextbookNotFoundException;
+import com.modern.studios.inventory.repository.OutboxRepository;
+import com.modern.studios.inventory.repository.StockRepository;
+
+/**
+ * Service for stock levels and sales. A sale is one conditional UPDATE that also inserts
+ * the sales transaction, so concurrent registers selling the same title only contend for
+ * the duration of that single statement and can never oversell. Every mutation appends its
+ * inventory change events to the outbox in the same transaction.
+ */
+@Service
+public class StockService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockService.class);
+
+    private final StockRepository stockRepository;
+    private final OutboxRepository outboxRepository;
+    private final int returnWindowDays;
+
+    public StockService(StockRepository stockRepository,
+                        OutboxRepository outboxRepository,
+                        @Value("${inventory.returns.window-days:14}") int returnWindowDays) {
+        this.stockRepository = stockRepository;
+        this.outboxRepository = outboxRepository;
+        this.returnWindowDays = returnWindowDays;
+    }
+
+    /**
+     * Sells copies of a textbook (processSale).
+     *
+     * @param saleRequestDTO The ISBN, condition and quantity sold
+     * @return Receipt with the transaction id and total amount
+     * @throws TextbookNotFoundException if the ISBN has no stock rows
+     * @throws InsufficientStockException if fewer copies than requested are on hand
+     */
+    @Transactional
+    public SaleReceiptDTO processSale(SaleRequestDTO saleRequestDTO) {
+        if (saleRequestDTO.quantity() <= 0) {
+            throw new IllegalArgumentException("Quantity must be greater than 0");
+        }
+
+        String isbn = Isbn.normalize(saleRequestDTO.isbn());
+        UUID transactionId = UUID.randomUUID();
+
+        BigDecimal totalAmount = stockRepository.sell(transactionId, isbn, saleRequestDTO.condition(), saleRequestDTO.quantity())
+                .orElseThrow(() -> saleRejected(isbn, saleRequestDTO.condition(), saleRequestDTO.quantity()));
+
+        outboxRepository.append(List.of(InventoryChangeEvent.of(
+                InventoryChangeType.SALE, isbn, saleRequestDTO.condition(), -saleRequestDTO.quantity(), transactionId.toString())));
+
+        logger.debug("Sold {} {} copies of {} in transaction {}", saleRequestDTO.quantity(), saleRequestDTO.condition(), isbn, transactionId);
+        return new SaleReceiptDTO(transactionId, isbn, saleRequestDTO.condition(), saleRequestDTO.quantity(), totalAmount);
+    }
+
+    /**
+     * Returns copies of an earlier sale to stock (processCustomerReturn).
+     *
+     * @param customerReturnDTO The sales transaction and the quantity returned
+     * @return Receipt with the ISBN and condition the copies were returned to
+     * @throws SaleNotFoundException if the sales transaction does not exist or is outside the return window
+     * @throws ReturnExceedsSaleException if more copies would be returned than were sold
+     */
+    @Transactional
+    public ReturnReceiptDTO processCustomerReturn(CustomerReturnDTO customerReturnDTO) {
+        UUID transactionId = customerReturnDTO.transactionId();
+        int quantity = customerReturnDTO.quantity();
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be greater than 0");
+        }
+
+        ReturnReceiptDTO receipt = stockRepository.returnToStock(transactionId, quantity, returnWindowDays)
+                .orElseThrow(() -> returnRejected(transactionId, quantity));
+
+        outboxRepository.append(List.of(InventoryChangeEvent.of(
+                InventoryChangeType.RETURN, receipt.isbn(), receipt.condition(), quantity, transactionId.toString())));
+
+        logger.debug("Returned {} {} copies of {} from transaction {}", quantity, receipt.condition(), receipt.isbn(), transactionId);
+        return receipt;
+    }
+
+    /**
+     * Reclassifies NEW copies of a title as USED (convertNewToUsed).
+     *
+     * @param conversionRequestDTO The ISBN and number of copies to convert
+     * @return The USED inventory level after the conversion
+     * @throws TextbookNotFoundException if the ISBN has no stock rows
+     * @throws InsufficientStockException if fewer NEW copies than requested are on hand
+     */
+    @Transactional
+    public InventoryLevelDTO convertNewToUsed(ConversionRequestDTO conversionRequestDTO) {
+        String isbn = Isbn.normalize(conversionRequestDTO.isbn());
+        int quantity = conversionRequestDTO.quantity();
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be greater than 0");
+        }
+
+        if (!stockRepository.convertNewToUsed(isbn, quantity)) {
+            throw saleRejected(isbn, StockCondition.NEW, quantity);
+        }
+
+        outboxRepository.append(List.of(
+                InventoryChangeEvent.of(InventoryChangeType.CONVERSION, isbn, StockCondition.NEW, -quantity, null),
+                InventoryChangeEvent.of(InventoryChangeType.CONVERSION, isbn, StockCondition.USED, quantity, null)));
+
+        return getInventoryLevel(isbn, StockCondition.USED);
+    }
+
+    /**
+     * Retrieves the current stock count of a title (getInventoryLevel).
+     *
+     * @param isbn      ISBN-10 or ISBN-13
+     * @param condition Condition to count, null for all conditions
+     * @return The inventory level
+     * @throws TextbookNotFoundException if the ISBN is not in the catalog
+     */
+    public InventoryLevelDTO getInventoryLevel(String isbn, StockCondition condition) {
+        String normalizedIsbn = Isbn.normalize(isbn);
+        int quantityOnHand = stockRepository.findQuantityOnHand(normalizedIsbn, condition)
+                .orElseThrow(() -> new TextbookNotFoundException("Textbook not found with ISBN: " + normalizedIsbn));
+        return new InventoryLevelDTO(normalizedIsbn, condition != null ? condition.name() : "ALL", quantityOnHand);
+    }
+
+    /**
+     * Works out why a conditional decrement matched no row. Only runs on the failure path.
+     */
+    RuntimeException saleRejected(String isbn, StockCondition condition, int quantity) {
+        return stockRepository.findQuantityOnHand(isbn, condition)
+                .<RuntimeException>map(onHand -> new InsufficientStockException(
+                        "Cannot take " + quantity + " " + condition + " copies of " + isbn + ", only " + onHand + " on hand"))
+                .orElseGet(() -> new TextbookNotFoundException("Textbook not found with ISBN: " + isbn));
+    }
+
+    /**
+     * Works out why a return matched no sale. Only runs on the failure path.
+     */
+    private RuntimeException returnRejected(UUID transactionId, int quantity) {
+        return stockRepository.findReturnableQuantity(transactionId, returnWindowDays)
+                .<RuntimeException>map(returnable -> new ReturnExceedsSaleException(
+                        "Cannot return " + quantity + " copies of transaction " + transactionId + ", only " + returnable + " returnable"))
+                .orElseGet(() -> new SaleNotFoundException(
+                        "Sales transaction not found within the last " + returnWindowDays + " days: " + transactionId));
+    }
+}
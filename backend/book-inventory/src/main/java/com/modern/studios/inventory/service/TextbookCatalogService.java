@@ -0,0 +1,189 @@
+package com.modern.studios.inventory.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.modern.studios.inventory.dto.NewTextbookDTO;
+import com.modern.studios.inventory.dto.TextbookDTO;
+import com.modern.studios.inventory.entity.Textbook;
+import com.modern.studios.inventory.exception.DuplicateIsbnException;
+import com.modern.studios.inventory.exception.TextbookNotFoundException;
+import com.modern.studios.inventory.exception.VendorNotFoundException;
+import com.modern.studios.inventory.repository.StockRepository;
+import com.modern.studios.inventory.repository.TextbookRepository;
+
+/**
+ * Service managing the textbook catalog. ISBN lookups are served from a bounded
+ * read-through cache since they are by far the most frequent catalog query.
+ */
+@Service
+public class TextbookCatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TextbookCatalogService.class);
+    private static final int MAX_SEARCH_RESULTS = 100;
+
+    private final TextbookRepository textbookRepository;
+    private final StockRepository stockRepository;
+    private final CatalogSearchService catalogSearchService;
+    private final Cache<String, TextbookDTO> textbooksByIsbn;
+
+    public TextbookCatalogService(TextbookRepository textbookRepository,
+                                  StockRepository stockRepository,
+                                  CatalogSearchService catalogSearchService,
+                                  @Value("${inventory.catalog-cache.maximum-size:50000}") long maximumSize,
+                                  @Value("${inventory.catalog-cache.time-to-live:30m}") Duration timeToLive) {
+        this.textbookRepository = textbookRepository;
+        this.stockRepository = stockRepository;
+        this.catalogSearchService = catalogSearchService;
+        this.textbooksByIsbn = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    /**
+     * Adds a title the bookstore has never carried before (addNewTextbookEntry),
+     * with NEW and USED stock rows at a quantity of zero.
+     *
+     * @param newTextbookDTO The textbook to add
+     * @return The created textbook
+     * @throws com.modern.studios.inventory.exception.InvalidIsbnException if the ISBN is invalid
+     * @throws DuplicateIsbnException if the ISBN is already in the catalog
+     */
+    @Transactional
+    public TextbookDTO addNewTextbookEntry(NewTextbookDTO newTextbookDTO) {
+        String isbn = Isbn.normalize(newTextbookDTO.isbn());
+
+        Textbook textbook = new Textbook()
+                .setIsbn(isbn)
+                .setTitle(newTextbookDTO.title())
+                .setAuthor(newTextbookDTO.author())
+                .setPublisher(newTextbookDTO.publisher())
+                .setEdition(newTextbookDTO.edition())
+                .setCourseCode(newTextbookDTO.courseCode())
+                .setMinimumThreshold(newTextbookDTO.minimumThreshold());
+
+        try {
+            // Rely on the primary key instead of a separate existence check
+            textbookRepository.saveAndFlush(textbook);
+        } catch (DataIntegrityViolationException ex) {
+            logger.warn("Attempt to add textbook with existing ISBN: {}", isbn);
+            throw new DuplicateIsbnException("Textbook already exists with ISBN: " + isbn);
+        }
+        stockRepository.createStockRows(isbn);
+
+        TextbookDTO added = new TextbookDTO(textbook);
+        catalogSearchService.indexAfterCommit(added);
+
+        logger.debug("Added textbook with ISBN: {}", isbn);
+        return added;
+    }
+
+    /**
+     * Sets the vendor the reorder engine orders a title from.
+     *
+     * @param isbn     ISBN-10 or ISBN-13
+     * @param vendorId The vendor id
+     * @throws TextbookNotFoundException if the ISBN is not in the catalog
+     * @throws VendorNotFoundException if the vendor does not exist
+     */
+    @Transactional
+    public void setPreferredVendor(String isbn, String vendorId) {
+        String normalizedIsbn = Isbn.normalize(isbn);
+        Textbook textbook = textbookRepository.findById(normalizedIsbn)
+                .orElseThrow(() -> new TextbookNotFoundException("Textbook not found with ISBN: " + normalizedIsbn));
+
+        try {
+            textbookRepository.saveAndFlush(textbook.setPreferredVendorId(vendorId));
+        } catch (DataIntegrityViolationException ex) {
+            throw new VendorNotFoundException("Vendor not found: " + vendorId);
+        }
+    }
+
+    /**
+     * Sets the course a title is adopted for, making it searchable by course code.
+     *
+     * @param isbn       ISBN-10 or ISBN-13
+     * @param courseCode The course code, or null to clear it
+     * @return The updated textbook
+     * @throws TextbookNotFoundException if the ISBN is not in the catalog
+     */
+    @Transactional
+    public TextbookDTO setCourseCode(String isbn, String courseCode) {
+        String normalizedIsbn = Isbn.normalize(isbn);
+        Textbook textbook = textbookRepository.findById(normalizedIsbn)
+                .orElseThrow(() -> new TextbookNotFoundException("Textbook not found with ISBN: " + normalizedIsbn));
+
+        textbook.setCourseCode(StringUtils.trimToNull(courseCode));
+        TextbookDTO updated = new TextbookDTO(textbookRepository.saveAndFlush(textbook));
+        evictTextbook(normalizedIsbn);
+        catalogSearchService.indexAfterCommit(updated);
+        return updated;
+    }
+
+    /**
+     * Retrieves a textbook by ISBN, from the cache when possible.
+     *
+     * @param isbn ISBN-10 or ISBN-13, with or without separators
+     * @return The textbook
+     * @throws com.modern.studios.inventory.exception.InvalidIsbnException if the ISBN is invalid
+     * @throws TextbookNotFoundException if the ISBN is not in the catalog
+     */
+    public TextbookDTO getTextbook(String isbn) {
+        String normalizedIsbn = Isbn.normalize(isbn);
+
+        TextbookDTO cached = textbooksByIsbn.getIfPresent(normalizedIsbn);
+        if (cached != null) {
+            return cached;
+        }
+
+        TextbookDTO textbook = textbookRepository.findById(normalizedIsbn)
+                .map(TextbookDTO::new)
+                .orElseThrow(() -> new TextbookNotFoundException("Textbook not found with ISBN: " + normalizedIsbn));
+        textbooksByIsbn.put(normalizedIsbn, textbook);
+        return textbook;
+    }
+
+    /**
+     * Searches the catalog by partial title, author, publisher or course code.
+     *
+     * @param query The text to look for
+     * @return Matching textbooks ordered by title
+     */
+    public List<TextbookDTO> searchTextbooks(String query) {
+        return catalogSearchService.search(query, MAX_SEARCH_RESULTS);
+    }
+
+    /**
+     * Drops a textbook from the ISBN cache so the next lookup reads the database. Inside a
+     * transaction the entry is dropped once it commits, so a concurrent lookup cannot cache
+     * the old row again in between; acts immediately when no transaction is active.
+     *
+     * @param isbn Normalized ISBN-13
+     */
+    public void evictTextbook(String isbn) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            textbooksByIsbn.invalidate(isbn);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                textbooksByIsbn.invalidate(isbn);
+            }
+        });
+    }
+}
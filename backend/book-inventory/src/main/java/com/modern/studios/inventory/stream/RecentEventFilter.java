@@ -0,0 +1,82 @@
+package com.modern.studios.inventory.stream;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.state.StoreBuilder;
+import org.apache.kafka.streams.state.Stores;
+import org.apache.kafka.streams.state.WindowStore;
+import org.apache.kafka.streams.state.WindowStoreIterator;
+
+import com.modern.studios.inventory.event.InventoryChangeEvent;
+
+/**
+ * Drops inventory events whose id was already seen within the window. The outbox relay
+ * delivers at least once and re-sends a whole batch after a failed or timed-out send, so
+ * the same event can arrive several times, shortly after its first copy. The ids are kept
+ * in a window store, so memory is bounded by the events of one window.
+ */
+final class RecentEventFilter implements FixedKeyProcessorSupplier<String, InventoryChangeEvent, InventoryChangeEvent> {
+
+    static final String STORE_NAME = "inventory-seen-events";
+
+    private final Duration window;
+
+    RecentEventFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    public FixedKeyProcessor<String, InventoryChangeEvent, InventoryChangeEvent> get() {
+        return new Processor(window.toMillis());
+    }
+
+    @Override
+    public Set<StoreBuilder<?>> stores() {
+        return Set.of(Stores.windowStoreBuilder(
+                Stores.persistentWindowStore(STORE_NAME, window, window, false),
+                Serdes.String(),
+                Serdes.Long()));
+    }
+
+    private static final class Processor implements FixedKeyProcessor<String, InventoryChangeEvent, InventoryChangeEvent> {
+
+        private final long windowMillis;
+        private FixedKeyProcessorContext<String, InventoryChangeEvent> context;
+        private WindowStore<String, Long> seenEvents;
+
+        Processor(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        @Override
+        public void init(FixedKeyProcessorContext<String, InventoryChangeEvent> context) {
+            this.context = context;
+            this.seenEvents = context.getStateStore(STORE_NAME);
+        }
+
+        @Override
+        public void process(FixedKeyRecord<String, InventoryChangeEvent> record) {
+            if (record.value().eventId() == null) {
+                context.forward(record);
+                return;
+            }
+
+            String eventId = record.value().eventId().toString();
+            long timestamp = record.timestamp();
+            // A re-sent copy carries a later producer timestamp, but allow for skew either way
+            try (WindowStoreIterator<Long> copies = seenEvents.fetch(eventId, timestamp - windowMillis, timestamp + windowMillis)) {
+                if (copies.hasNext()) {
+                    return;
+                }
+            }
+            seenEvents.put(eventId, timestamp, timestamp);
+            context.forward(record);
+        }
+    }
+}
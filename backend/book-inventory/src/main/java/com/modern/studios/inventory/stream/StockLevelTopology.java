@@ -0,0 +1,69 @@
+package com.modern.studios.inventory.stream;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KTable;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import com.modern.studios.inventory.event.InventoryChangeEvent;
+
+/**
+ * Folds the inventory change stream into a RocksDB-backed table of quantity on hand.
+ * Events are already keyed by ISBN, so both conditions of a title live in one
+ * {@link StockLevels} value and the aggregation needs no repartition topic. Copies of an
+ * event re-sent by the outbox relay are dropped on their event id before the fold, so each
+ * change moves the quantity once.
+ */
+public final class StockLevelTopology {
+
+    public static final String STORE_NAME = "inventory-on-hand";
+
+    private static final Logger logger = LoggerFactory.getLogger(StockLevelTopology.class);
+
+    private StockLevelTopology() {
+    }
+
+    /**
+     * Adds the stock level aggregation to a topology.
+     *
+     * @param builder    The streams builder
+     * @param topic      Topic the outbox relay publishes inventory changes to
+     * @param jsonMapper Mapper used to read the event payloads
+     * @param dedupWindow How long an event id is remembered to drop re-sent copies
+     * @return The table of stock levels keyed by ISBN
+     */
+    public static KTable<String, StockLevels> build(StreamsBuilder builder, String topic, JsonMapper jsonMapper,
+                                                    Duration dedupWindow) {
+        return builder.stream(topic, Consumed.with(Serdes.String(), Serdes.String()))
+                .flatMapValues(payload -> readEvent(jsonMapper, payload))
+                .processValues(new RecentEventFilter(dedupWindow))
+                .groupByKey()
+                .aggregate(
+                        () -> StockLevels.EMPTY,
+                        (isbn, event, levels) -> levels.apply(event),
+                        Materialized.<String, StockLevels, KeyValueStore<Bytes, byte[]>>as(STORE_NAME)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(StockLevelsSerde.instance()));
+    }
+
+    // Skips payloads that cannot be read instead of stopping the stream thread
+    private static List<InventoryChangeEvent> readEvent(JsonMapper jsonMapper, String payload) {
+        try {
+            InventoryChangeEvent event = jsonMapper.readValue(payload, InventoryChangeEvent.class);
+            return event.condition() != null ? List.of(event) : List.of();
+        } catch (JacksonException e) {
+            logger.warn("Skipping unreadable inventory event: {}", e.getOriginalMessage());
+            return List.of();
+        }
+    }
+}
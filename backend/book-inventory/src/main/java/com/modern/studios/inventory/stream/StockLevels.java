@@ -0,0 +1,28 @@
+package com.modern.studios.inventory.stream;
+
+import com.modern.studios.inventory.entity.StockCondition;
+import com.modern.studios.inventory.event.InventoryChangeEvent;
+
+/**
+ * Quantity on hand of both conditions of one title, as materialized by {@link StockLevelTopology}.
+ *
+ * @param newOnHand  Copies on hand in NEW condition
+ * @param usedOnHand Copies on hand in USED condition
+ */
+public record StockLevels(int newOnHand, int usedOnHand) {
+
+    public static final StockLevels EMPTY = new StockLevels(0, 0);
+
+    public StockLevels apply(InventoryChangeEvent event) {
+        return event.condition() == StockCondition.NEW
+                ? new StockLevels(newOnHand + event.quantityDelta(), usedOnHand)
+                : new StockLevels(newOnHand, usedOnHand + event.quantityDelta());
+    }
+
+    public int onHand(StockCondition condition) {
+        if (condition == null) {
+            return newOnHand + usedOnHand;
+        }
+        return condition == StockCondition.NEW ? newOnHand : usedOnHand;
+    }
+}
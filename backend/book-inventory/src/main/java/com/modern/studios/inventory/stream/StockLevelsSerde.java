@@ -0,0 +1,40 @@
+package com.modern.studios.inventory.stream;
+
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Fixed 8-byte encoding of {@link StockLevels} for the state store and its changelog.
+ */
+public final class StockLevelsSerde extends Serdes.WrapperSerde<StockLevels> {
+
+    private static final int SIZE = 2 * Integer.BYTES;
+
+    public StockLevelsSerde() {
+        super(serializer(), deserializer());
+    }
+
+    public static Serde<StockLevels> instance() {
+        return new StockLevelsSerde();
+    }
+
+    private static Serializer<StockLevels> serializer() {
+        return (topic, levels) -> levels == null
+                ? null
+                : ByteBuffer.allocate(SIZE).putInt(levels.newOnHand()).putInt(levels.usedOnHand()).array();
+    }
+
+    private static Deserializer<StockLevels> deserializer() {
+        return (topic, bytes) -> {
+            if (bytes == null) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new StockLevels(buffer.getInt(), buffer.getInt());
+        };
+    }
+}
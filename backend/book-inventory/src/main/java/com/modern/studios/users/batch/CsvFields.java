@@ -0,0 +1,31 @@
+package com.modern.studios.users.batch;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Formats fields as one CSV line, quoting those that contain a separator, quote or line break
+ * so the files read back with the default delimited tokenizer.
+ */
+final class CsvFields {
+
+    private CsvFields() {
+    }
+
+    static String join(Object... fields) {
+        return Arrays.stream(fields)
+                .map(CsvFields::quote)
+                .collect(Collectors.joining(","));
+    }
+
+    private static String quote(Object field) {
+        if (field == null) {
+            return "";
+        }
+        String value = field.toString();
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,38 @@
+package com.modern.studios.users.batch;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.batch.infrastructure.item.ItemProcessor;
+import org.springframework.batch.infrastructure.item.validator.ValidationException;
+import org.springframework.stereotype.Component;
+
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+
+/**
+ * Checks an imported row against the same constraints as a signup request. A row that
+ * fails is skipped by the import step and reported with the violated constraints.
+ */
+@Component
+public class RegistrationValidator implements ItemProcessor<RegisterUserDTO, RegisterUserDTO> {
+
+    private final Validator validator;
+
+    public RegistrationValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public RegisterUserDTO process(RegisterUserDTO registration) {
+        Set<ConstraintViolation<RegisterUserDTO>> violations = validator.validate(registration);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" ")));
+        }
+        return registration;
+    }
+}
@@ -0,0 +1,22 @@
+package com.modern.studios.users.batch;
+
+import org.springframework.batch.infrastructure.item.file.transform.LineAggregator;
+
+import com.modern.studios.users.dto.admin.UserDetails;
+
+/**
+ * Writes a user as {@code email,first_name,last_name,created_at}, with the creation time in ISO-8601 UTC.
+ */
+public class UserDetailsLineAggregator implements LineAggregator<UserDetails> {
+
+    public static final String HEADER = "email,first_name,last_name,created_at";
+
+    @Override
+    public String aggregate(UserDetails user) {
+        return CsvFields.join(
+                user.email(),
+                user.firstName(),
+                user.lastName(),
+                user.createdAt() == null ? null : user.createdAt().toInstant());
+    }
+}
@@ -0,0 +1,102 @@
+package com.modern.studios.users.batch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.batch.core.listener.SkipListener;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStream;
+import org.springframework.batch.infrastructure.item.file.FlatFileParseException;
+
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+
+/**
+ * Reports the rows of an import that did not create a user: one {@code record,reason} line per
+ * row in a file next to the input. The length of the file and the number of invalid rows are
+ * saved in the step execution context with each chunk; on a restart the file is truncated back
+ * to that length, so lines of a chunk that rolled back are not reported twice.
+ */
+public class UserImportRejections implements SkipListener<RegisterUserDTO, RegisterUserDTO>, ItemStream {
+
+    public static final String DUPLICATE_REASON = "The email address is already registered.";
+    public static final String INVALID_ROWS_KEY = "userImportRejections.invalid";
+
+    private static final String POSITION_KEY = "userImportRejections.position";
+
+    private final Path rejectionsFile;
+
+    private long invalidRows;
+
+    public UserImportRejections(Path inputFile) {
+        this.rejectionsFile = fileFor(inputFile);
+    }
+
+    /**
+     * @param inputFile The CSV file being imported
+     * @return The file the rejected rows of that import are reported in
+     */
+    public static Path fileFor(Path inputFile) {
+        return inputFile.resolveSibling(inputFile.getFileName() + ".rejections.csv");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        invalidRows = executionContext.getLong(INVALID_ROWS_KEY, 0);
+        try (FileChannel channel = FileChannel.open(rejectionsFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(executionContext.getLong(POSITION_KEY, 0));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open the import rejections file", e);
+        }
+    }
+
+    @Override
+    public synchronized void update(ExecutionContext executionContext) {
+        executionContext.putLong(INVALID_ROWS_KEY, invalidRows);
+        try {
+            executionContext.putLong(POSITION_KEY, Files.size(rejectionsFile));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the import rejections file", e);
+        }
+    }
+
+    public void duplicate(String email) {
+        reject(email, DUPLICATE_REASON);
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        if (t instanceof FlatFileParseException parseException) {
+            invalid("line " + parseException.getLineNumber(), "The line could not be parsed.");
+        } else {
+            invalid("unknown", t.getMessage());
+        }
+    }
+
+    @Override
+    public void onSkipInProcess(RegisterUserDTO registration, Throwable t) {
+        invalid(registration.email(), t.getMessage());
+    }
+
+    @Override
+    public void onSkipInWrite(RegisterUserDTO registration, Throwable t) {
+        invalid(registration.email(), t.getMessage());
+    }
+
+    private synchronized void invalid(String record, String reason) {
+        reject(record, reason);
+        invalidRows++;
+    }
+
+    private synchronized void reject(String record, String reason) {
+        try {
+            Files.writeString(rejectionsFile, CsvFields.join(record, reason) + '\n',
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write the import rejections file", e);
+        }
+    }
+}
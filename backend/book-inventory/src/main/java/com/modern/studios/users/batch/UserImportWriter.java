@@ -0,0 +1,55 @@
+package com.modern.studios.users.batch;
+
+import java.util.ArrayList;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamWriter;
+
+import com.modern.studios.users.dto.admin.UserImportResultDTO;
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+import com.modern.studios.users.service.UserImportService;
+
+/**
+ * Registers a chunk of imported users through {@link UserImportService}: passwords are hashed
+ * in parallel and the rows inserted as JDBC batches, joining the chunk transaction. Emails
+ * already registered, by an earlier chunk or before the import, are reported as duplicates.
+ * The users created and the duplicates are kept in the step execution context, which commits
+ * with each chunk, so after a restart they still cover the whole file.
+ */
+public class UserImportWriter implements ItemStreamWriter<RegisterUserDTO> {
+
+    public static final String CREATED_KEY = "userImportWriter.created";
+    public static final String DUPLICATES_KEY = "userImportWriter.duplicates";
+
+    private final UserImportService userImportService;
+    private final UserImportRejections rejections;
+
+    private long created;
+    private long duplicates;
+
+    public UserImportWriter(UserImportService userImportService, UserImportRejections rejections) {
+        this.userImportService = userImportService;
+        this.rejections = rejections;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        created = executionContext.getLong(CREATED_KEY, 0);
+        duplicates = executionContext.getLong(DUPLICATES_KEY, 0);
+    }
+
+    @Override
+    public void write(Chunk<? extends RegisterUserDTO> registrations) {
+        UserImportResultDTO result = userImportService.importUsers(new ArrayList<RegisterUserDTO>(registrations.getItems()));
+        result.skippedEmails().forEach(rejections::duplicate);
+        created += result.created();
+        duplicates += result.skippedEmails().size();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(CREATED_KEY, created);
+        executionContext.putLong(DUPLICATES_KEY, duplicates);
+    }
+}
@@ -1,5 +1,11 @@
 package com.modern.studios.users.configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -8,9 +14,17 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.modern.studios.users.repository.UserRepository;
+import com.modern.studios.users.service.PasswordCostCalibrator;
+import com.modern.studios.users.service.PasswordHashingExecutor;
+import com.modern.studios.users.service.PooledPasswordEncoder;
+import com.modern.studios.users.service.TimedPasswordEncoder;
+import com.modern.studios.users.service.UserPasswordUpgradeService;
 
 @Configuration
 public class ApplicationConfiguration {
@@ -26,9 +40,32 @@ public class ApplicationConfiguration {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
+    /**
+     * Password encoder that hashes new passwords with the configured algorithm and cost,
+     * while still verifying older hashes. Hashes stored before encoder ids were introduced
+     * carry no {id} prefix and are verified as plain BCrypt. Every encoder is timed per algorithm.
+     *
+     * @param algorithm      Id of the algorithm used for new hashes (bcrypt or argon2)
+     * @param bcryptStrength BCrypt strength for new hashes, 0 to calibrate it at startup
+     * @param targetLatency  Hash latency the calibration aims for
+     * @param meterRegistry  Registry for the hashing timers
+     * @return The delegating password encoder
+     */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.algorithm:bcrypt}") String algorithm,
+                                           @Value("${security.password.bcrypt.strength:0}") int bcryptStrength,
+                                           @Value("${security.password.target-hash-latency:100ms}") Duration targetLatency,
+                                           MeterRegistry meterRegistry) {
+        int strength = bcryptStrength > 0 ? bcryptStrength : PasswordCostCalibrator.calibrateBcryptStrength(targetLatency);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new TimedPasswordEncoder(new BCryptPasswordEncoder(strength), "bcrypt", meterRegistry));
+        encoders.put("argon2", new TimedPasswordEncoder(Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8(), "argon2", meterRegistry));
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(
+                new TimedPasswordEncoder(new BCryptPasswordEncoder(), "bcrypt", meterRegistry));
+        return passwordEncoder;
     }
 
     @Bean
@@ -37,9 +74,18 @@ public class ApplicationConfiguration {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider(BCryptPasswordEncoder passwordEncoder) {
-        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder);
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder,
+                                                         PasswordHashingExecutor passwordHashingExecutor,
+                                                         UserPasswordUpgradeService userPasswordUpgradeService) {
+        // Password checks read the user from the database; only the principal lookups of
+        // authenticated requests go through userDetailsService() and the caches
+        UserDetailsService credentialsService = username -> userRepository.findByEmailForCredentialCheck(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(credentialsService);
+        // Only the hash comparison runs on the hashing pool; loading the user stays on the calling thread
+        authProvider.setPasswordEncoder(new PooledPasswordEncoder(passwordEncoder, passwordHashingExecutor));
+        // Re-hash passwords stored with an outdated algorithm or cost after a successful login
+        authProvider.setUserDetailsPasswordService(userPasswordUpgradeService);
 
         return authProvider;
     }
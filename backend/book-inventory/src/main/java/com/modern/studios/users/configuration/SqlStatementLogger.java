@@ -0,0 +1,25 @@
+package com.modern.studios.users.configuration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs every SQL statement Hibernate prepares at debug level on the {@value #LOGGER_NAME} logger,
+ * replacing {@code spring.jpa.show-sql}, which writes each statement to stdout unconditionally.
+ * When the logger is disabled the only cost is the level check.
+ */
+public class SqlStatementLogger implements StatementInspector {
+
+    public static final String LOGGER_NAME = "com.modern.studios.sql";
+
+    private static final Logger logger = LoggerFactory.getLogger(LOGGER_NAME);
+
+    @Override
+    public String inspect(String sql) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,39 @@
+package com.modern.studios.users.configuration;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Logback turbo filter that keeps one in {@code sampleRate} log calls marked {@link #SUCCESS}.
+ * Turbo filters run before the logging event is created, so a dropped call never formats its
+ * message or allocates an event. Unmarked calls, warnings and errors are never sampled.
+ */
+public class SuccessLogSampler extends TurboFilter {
+
+    /**
+     * Marks routine success messages that may be sampled under load.
+     */
+    public static final Marker SUCCESS = MarkerFactory.getMarker("SUCCESS");
+
+    private int sampleRate = 1;
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (sampleRate == 1 || marker == null || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !marker.contains(SUCCESS)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(sampleRate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
@@ -0,0 +1,154 @@
+package com.modern.studios.users.configuration;
+
+import java.nio.file.Path;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.infrastructure.item.file.FlatFileItemReader;
+import org.springframework.batch.infrastructure.item.file.FlatFileItemWriter;
+import org.springframework.batch.infrastructure.item.file.FlatFileParseException;
+import org.springframework.batch.infrastructure.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.infrastructure.item.file.builder.FlatFileItemWriterBuilder;
+import org.springframework.batch.infrastructure.item.validator.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.modern.studios.users.batch.RegistrationValidator;
+import com.modern.studios.users.batch.UserDetailsLineAggregator;
+import com.modern.studios.users.batch.UserImportRejections;
+import com.modern.studios.users.batch.UserImportWriter;
+import com.modern.studios.users.dto.admin.UserDetails;
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+import com.modern.studios.users.repository.UserJdbcRepository;
+import com.modern.studios.users.service.UserImportService;
+
+/**
+ * Batch jobs onboarding and exporting users as CSV. The import step validates each row with
+ * the signup constraints, skipping and reporting the invalid ones, and writes each chunk as
+ * JDBC batches with the passwords hashed in parallel; a failed run restarts after its last
+ * committed chunk, with the counts and rejections reported so far as of that chunk. The export step reads the users table through a server-side cursor and
+ * writes it to a file line by line, so memory use does not grow with the table.
+ */
+@Configuration
+public class UserBatchJobConfiguration {
+
+    public static final String IMPORT_JOB_NAME = "userImportJob";
+    public static final String EXPORT_JOB_NAME = "userExportJob";
+    public static final String INPUT_FILE_PARAMETER = "input.file";
+    public static final String OUTPUT_FILE_PARAMETER = "output.file";
+
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    @Bean
+    public Job userImportJob(JobRepository jobRepository, Step importUsersStep) {
+        return new JobBuilder(IMPORT_JOB_NAME, jobRepository)
+                .start(importUsersStep)
+                .build();
+    }
+
+    @Bean
+    public Step importUsersStep(JobRepository jobRepository,
+                                PlatformTransactionManager transactionManager,
+                                FlatFileItemReader<RegisterUserDTO> userCsvReader,
+                                RegistrationValidator registrationValidator,
+                                UserImportWriter userImportWriter,
+                                UserImportRejections userImportRejections,
+                                @Value("${users.batch.chunk-size:500}") int chunkSize) {
+        return new StepBuilder("importUsers", jobRepository)
+                .<RegisterUserDTO, RegisterUserDTO>chunk(chunkSize, transactionManager)
+                .reader(userCsvReader)
+                .processor(registrationValidator)
+                .writer(userImportWriter)
+                .faultTolerant()
+                .skipPolicy((t, skipCount) -> t instanceof ValidationException || t instanceof FlatFileParseException)
+                .listener(userImportRejections)
+                .stream(userImportRejections)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public FlatFileItemReader<RegisterUserDTO> userCsvReader(@Value("#{jobParameters['" + INPUT_FILE_PARAMETER + "']}") String inputFile) {
+        return new FlatFileItemReaderBuilder<RegisterUserDTO>()
+                .name("userCsvReader")
+                .resource(new FileSystemResource(inputFile))
+                .linesToSkip(1)
+                .delimited()
+                .names("email", "password", "firstName", "lastName")
+                .fieldSetMapper(fieldSet -> new RegisterUserDTO(
+                        fieldSet.readString("email"),
+                        fieldSet.readRawString("password"),
+                        fieldSet.readString("firstName"),
+                        fieldSet.readString("lastName")))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public UserImportRejections userImportRejections(@Value("#{jobParameters['" + INPUT_FILE_PARAMETER + "']}") String inputFile) {
+        return new UserImportRejections(Path.of(inputFile));
+    }
+
+    @Bean
+    @StepScope
+    public UserImportWriter userImportWriter(UserImportService userImportService, UserImportRejections userImportRejections) {
+        return new UserImportWriter(userImportService, userImportRejections);
+    }
+
+    @Bean
+    public Job userExportJob(JobRepository jobRepository, Step exportUsersStep) {
+        return new JobBuilder(EXPORT_JOB_NAME, jobRepository)
+                .start(exportUsersStep)
+                .build();
+    }
+
+    @Bean
+    public Step exportUsersStep(JobRepository jobRepository,
+                                PlatformTransactionManager transactionManager,
+                                JdbcCursorItemReader<UserDetails> userDetailsReader,
+                                FlatFileItemWriter<UserDetails> userCsvWriter,
+                                @Value("${users.batch.chunk-size:500}") int chunkSize) {
+        return new StepBuilder("exportUsers", jobRepository)
+                .<UserDetails, UserDetails>chunk(chunkSize, transactionManager)
+                .reader(userDetailsReader)
+                .writer(userCsvWriter)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<UserDetails> userDetailsReader(DataSource dataSource) {
+        // The Postgres driver only honours the fetch size with auto-commit off; otherwise
+        // it buffers the whole result set
+        return new JdbcCursorItemReaderBuilder<UserDetails>()
+                .name("userDetailsReader")
+                .dataSource(dataSource)
+                .sql(UserJdbcRepository.USER_DETAILS_SQL)
+                .rowMapper(UserJdbcRepository.USER_DETAILS_ROW_MAPPER)
+                .fetchSize(EXPORT_FETCH_SIZE)
+                .connectionAutoCommit(false)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public FlatFileItemWriter<UserDetails> userCsvWriter(@Value("#{jobParameters['" + OUTPUT_FILE_PARAMETER + "']}") String outputFile) {
+        return new FlatFileItemWriterBuilder<UserDetails>()
+                .name("userCsvWriter")
+                .resource(new FileSystemResource(outputFile))
+                .headerCallback(writer -> writer.write(UserDetailsLineAggregator.HEADER))
+                .lineAggregator(new UserDetailsLineAggregator())
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.modern.studios.users.configuration;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Extra wiring for the virtual-thread execution mode enabled with {@code spring.threads.virtual.enabled=true}.
+ * Spring Boot already moves Tomcat request handling, async MVC tasks and scheduling onto virtual threads;
+ * this configuration bounds how many of them may hold a database connection at once.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfiguration.class);
+
+    /**
+     * Wraps the application DataSource in a {@link BoundedDataSource} sized to the Hikari pool.
+     *
+     * @param environment   Environment to read the permit timeout from
+     * @param meterRegistry Registry for the permit gauges, if metrics are enabled
+     * @return Post processor wrapping the DataSource
+     */
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(Environment environment,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikariDataSource)) {
+                    return bean;
+                }
+
+                int permits = hikariDataSource.getMaximumPoolSize();
+                Duration acquireTimeout = environment.getProperty(
+                        "app.datasource.permit-timeout", Duration.class, Duration.ofSeconds(30));
+                BoundedDataSource boundedDataSource = new BoundedDataSource(hikariDataSource, permits, acquireTimeout);
+
+                meterRegistry.ifAvailable(registry -> {
+                    Gauge.builder("db.connection.permits.available", boundedDataSource, BoundedDataSource::availablePermits)
+                            .register(registry);
+                    Gauge.builder("db.connection.permits.waiting", boundedDataSource, BoundedDataSource::queueLength)
+                            .register(registry);
+                });
+
+                logger.info("Virtual threads enabled, limiting concurrent database connections to {}", permits);
+                return boundedDataSource;
+            }
+        };
+    }
+}
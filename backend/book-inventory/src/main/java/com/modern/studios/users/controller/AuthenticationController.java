@@ -1,11 +1,16 @@
 package com.modern.studios.users.controller;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import com.modern.studios.users.dto.forgotpassword.ForgotPasswordDTO;
 import com.modern.studios.users.dto.login.LoginResponseDTO;
@@ -22,33 +27,46 @@ public class AuthenticationController {
 
     private final JwtService jwtService;
     private final AuthenticationService authenticationService;
+    private final Executor taskExecutor;
 
-    public AuthenticationController(JwtService jwtService, AuthenticationService authenticationService) {
+    public AuthenticationController(JwtService jwtService,
+                                    AuthenticationService authenticationService,
+                                    @Qualifier("applicationTaskExecutor") Executor taskExecutor) {
         this.jwtService = jwtService;
         this.authenticationService = authenticationService;
+        this.taskExecutor = taskExecutor;
     }
 
+    // These flows run on the async task executor, releasing the request thread; only the password
+    // hashing within them is handed to the bounded hashing pool
+
     @PostMapping("/register")
-    public ResponseEntity<RegisterUserResponseDTO> register(@Valid @RequestBody RegisterUserDTO registerUserDto) {
-        User registeredUser = authenticationService.signup(registerUserDto);
-        RegisterUserResponseDTO registerUserResponseDTO = new RegisterUserResponseDTO("User registered successfully", "User registered successfully", registeredUser.getEmail());
-        return ResponseEntity.ok(registerUserResponseDTO);
+    public CompletableFuture<ResponseEntity<RegisterUserResponseDTO>> register(@Valid @RequestBody RegisterUserDTO registerUserDto) {
+        return CompletableFuture.supplyAsync(() -> {
+            User registeredUser = authenticationService.signup(registerUserDto);
+            RegisterUserResponseDTO registerUserResponseDTO = new RegisterUserResponseDTO("User registered successfully", "User registered successfully", registeredUser.getEmail());
+            return ResponseEntity.ok(registerUserResponseDTO);
+        }, taskExecutor);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDTO> authenticate(@Valid @RequestBody LoginUserDTO loginUserDto) {
-        User authenticatedUser = authenticationService.authenticate(loginUserDto);
+    public CompletableFuture<ResponseEntity<LoginResponseDTO>> authenticate(@Valid @RequestBody LoginUserDTO loginUserDto,
+                                                                            HttpServletRequest request) {
+        String clientAddress = request.getRemoteAddr();
+        return CompletableFuture.supplyAsync(() -> {
+            User authenticatedUser = authenticationService.authenticate(loginUserDto, clientAddress);
 
-        String jwtToken = jwtService.generateToken(authenticatedUser);
-        LoginUserDTO userDTO = new LoginUserDTO(authenticatedUser.getEmail(), null); // Don't send password in response
-        LoginResponseDTO loginResponse = new LoginResponseDTO("Login successfully", jwtToken, userDTO);
+            String jwtToken = jwtService.generateToken(authenticatedUser);
+            LoginUserDTO userDTO = new LoginUserDTO(authenticatedUser.getEmail(), null); // Don't send password in response
+            LoginResponseDTO loginResponse = new LoginResponseDTO("Login successfully", jwtToken, userDTO);
 
-        return ResponseEntity.ok(loginResponse);
+            return ResponseEntity.ok(loginResponse);
+        }, taskExecutor);
     }
 
     @PostMapping("/password/reset")
-    public ResponseEntity<String> resetPassword(@Valid @RequestBody ForgotPasswordDTO forgotPasswordDTO) {
-        return ResponseEntity.ok(authenticationService.resetPassword(forgotPasswordDTO));
+    public CompletableFuture<ResponseEntity<String>> resetPassword(@Valid @RequestBody ForgotPasswordDTO forgotPasswordDTO) {
+        return CompletableFuture.supplyAsync(() -> ResponseEntity.ok(authenticationService.resetPassword(forgotPasswordDTO)), taskExecutor);
     }
 
     @PostMapping("/logout")
@@ -1,14 +1,27 @@
 package com.modern.studios.users.controller;
 
-import java.util.List;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 
 import com.modern.studios.users.entity.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import com.modern.studios.users.configuration.SuccessLogSampler;
 import com.modern.studios.users.dto.admin.UserDetails;
+import com.modern.studios.users.dto.admin.UserImportRequestDTO;
+import com.modern.studios.users.dto.admin.UserImportResultDTO;
+import com.modern.studios.users.dto.admin.UserPageDTO;
+import com.modern.studios.users.service.UserImportService;
 import com.modern.studios.users.service.UserService;
 
 @RestController
@@ -17,21 +30,45 @@ public class UserAdminController {
 
     private static final Logger logger = LoggerFactory.getLogger(UserAdminController.class);
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final JsonMapper jsonMapper;
 
-    public UserAdminController(UserService userService) {
+    public UserAdminController(UserService userService, UserImportService userImportService, JsonMapper jsonMapper) {
         this.userService = userService;
+        this.userImportService = userImportService;
+        this.jsonMapper = jsonMapper;
     }
 
     /**
-     * Retrieves all users
-     * @return ResponseEntity containing list of all users
+     * Retrieves one page of users
+     * @param cursor - The nextCursor of the previous page, omitted for the first page
+     * @param limit - The maximum number of users to return
+     * @return ResponseEntity containing the page of users and the cursor of the next page
      */
     @GetMapping
-    public ResponseEntity<List<UserDetails>> getAllUsers() {
-        logger.debug("Received request to get all users");
-        List<UserDetails> users = userService.getAllUsers();
-        logger.info("Returning {} users", users.size());
-        return ResponseEntity.ok(users);
+    public ResponseEntity<UserPageDTO> getAllUsers(@RequestParam(value = "cursor", required = false) String cursor,
+                                                   @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        logger.debug("Received request to get users page");
+        UserPageDTO page = userService.getUsersPage(cursor, limit);
+        logger.info(SuccessLogSampler.SUCCESS, "Returning {} users", page.users().size());
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams all users as newline-delimited JSON, one user per line
+     * @return ResponseEntity writing users to the response as they are read from the database
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        logger.debug("Received request to stream all users");
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            userService.streamAllUsers(user -> writeLine(out, user));
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -43,7 +80,7 @@ public class UserAdminController {
     public ResponseEntity<User> getUserByEmailId(@RequestParam("email") String emailId) {
         logger.debug("Received request to get user by email: {}", emailId);
         User userDetails = userService.getUserByEmailId(emailId);
-        logger.info("Successfully retrieved user with email: {}", emailId);
+        logger.info(SuccessLogSampler.SUCCESS, "Successfully retrieved user with email: {}", emailId);
         return ResponseEntity.ok(userDetails);
     }
 
@@ -57,7 +94,28 @@ public class UserAdminController {
     public ResponseEntity<UserDetails> updateUser(@RequestParam("email") String emailId, @RequestBody UserDetails userDetails) {
         logger.debug("Received request to update user with email: {}", emailId);
         UserDetails updatedUser = userService.updateUser(emailId, userDetails);
-        logger.info("Successfully updated user with email: {}", emailId);
+        logger.info(SuccessLogSampler.SUCCESS, "Successfully updated user with email: {}", emailId);
         return ResponseEntity.ok(updatedUser);
     }
+
+    /**
+     * Registers a cohort of users, skipping emails that are already registered
+     * @param importRequest - The users to register
+     * @return ResponseEntity containing the number of users created and the emails skipped
+     */
+    @PostMapping("/import")
+    public ResponseEntity<UserImportResultDTO> importUsers(@Valid @RequestBody UserImportRequestDTO importRequest) {
+        logger.debug("Received request to import {} users", importRequest.users().size());
+        UserImportResultDTO result = userImportService.importUsers(importRequest.users());
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
+    private void writeLine(OutputStream out, UserDetails user) {
+        try {
+            out.write(jsonMapper.writeValueAsBytes(user));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package com.modern.studios.users.controller;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.modern.studios.users.dto.admin.UserImportJobResultDTO;
+import com.modern.studios.users.service.UserBatchService;
+
+@RestController
+@RequestMapping("/api/admin/users")
+public class UserBatchController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final UserBatchService userBatchService;
+
+    public UserBatchController(UserBatchService userBatchService) {
+        this.userBatchService = userBatchService;
+    }
+
+    /**
+     * Imports users from a CSV file, skipping and reporting invalid rows and registered emails
+     * @param file - CSV file with the header email,password,first_name,last_name
+     * @return ResponseEntity containing the outcome of the import job
+     */
+    @PostMapping(value = "/import-jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UserImportJobResultDTO> importUsers(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(userBatchService.importUsers(file));
+    }
+
+    /**
+     * Exports all users as CSV. The exported file holds personal data, so it is deleted as soon
+     * as the response body has been written, or the client has gone away
+     * @return ResponseEntity streaming the exported file with the header email,first_name,last_name,created_at
+     */
+    @GetMapping(value = "/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        Path exportFile = userBatchService.exportUsers();
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users.csv")
+                        .build()
+                        .toString())
+                .body(out -> {
+                    try {
+                        Files.copy(exportFile, out);
+                    } finally {
+                        Files.deleteIfExists(exportFile);
+                    }
+                });
+    }
+}
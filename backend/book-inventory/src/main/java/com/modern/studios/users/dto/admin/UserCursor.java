@@ -0,0 +1,43 @@
+package com.modern.studios.users.dto.admin;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+import com.modern.studios.users.exception.UserValidationException;
+
+/**
+ * Keyset position in the admin user listing, encoded as an opaque URL-safe string.
+ * Keeps the full timestamp precision of created_at so rows created within the same
+ * millisecond are neither skipped nor repeated.
+ */
+public record UserCursor(Instant createdAt, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static UserCursor of(Date createdAt, String id) {
+        Instant instant = createdAt instanceof Timestamp timestamp ? timestamp.toInstant() : createdAt.toInstant();
+        return new UserCursor(instant, id);
+    }
+
+    public static UserCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new UserCursor(Instant.parse(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new UserValidationException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Timestamp createdAtTimestamp() {
+        return Timestamp.from(createdAt);
+    }
+}
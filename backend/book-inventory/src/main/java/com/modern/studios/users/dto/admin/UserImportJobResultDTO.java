@@ -0,0 +1,12 @@
+package com.modern.studios.users.dto.admin;
+
+import java.util.List;
+
+/**
+ * Outcome of a CSV import job. The counts cover the whole file, including the chunks committed
+ * by earlier executions of a restarted import. Each rejection is a {@code record,reason} line,
+ * the record being the email of the row or its line number when the line could not be parsed.
+ */
+public record UserImportJobResultDTO(Long jobExecutionId, String status, String exitCode, long rowsRead,
+                                     long usersCreated, long duplicates, long invalidRows, List<String> rejections) {
+}
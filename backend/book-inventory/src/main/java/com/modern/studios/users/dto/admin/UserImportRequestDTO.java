@@ -0,0 +1,15 @@
+package com.modern.studios.users.dto.admin;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+
+public record UserImportRequestDTO(
+        @NotEmpty(message = "At least one user is required.")
+        @Size(max = 10000, message = "At most 10000 users can be imported at once.")
+        List<@Valid RegisterUserDTO> users
+) {
+}
@@ -0,0 +1,9 @@
+package com.modern.studios.users.dto.admin;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: emails already registered, or repeated in the request, are skipped.
+ */
+public record UserImportResultDTO(int requested, int created, List<String> skippedEmails) {
+}
@@ -0,0 +1,6 @@
+package com.modern.studios.users.dto.admin;
+
+import java.util.List;
+
+public record UserPageDTO(List<UserDetails> users, String nextCursor) {
+}
@@ -0,0 +1,18 @@
+package com.modern.studios.users.dto.admin;
+
+import java.util.Date;
+
+/**
+ * Projection of the users table selecting only the columns needed for the admin listing
+ * plus the id used as the keyset tie-breaker.
+ */
+public record UserSummary(String id, String email, String firstName, String lastName, Date createdAt) {
+
+    public UserDetails toUserDetails() {
+        return new UserDetails(email, firstName, lastName, createdAt);
+    }
+
+    public UserCursor toCursor() {
+        return UserCursor.of(createdAt, id);
+    }
+}
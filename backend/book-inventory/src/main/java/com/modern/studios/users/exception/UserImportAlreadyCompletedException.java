@@ -0,0 +1,11 @@
+package com.modern.studios.users.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.CONFLICT, reason = "User import has already been completed")
+public class UserImportAlreadyCompletedException extends RuntimeException {
+    public UserImportAlreadyCompletedException(String message) {
+        super(message);
+    }
+}
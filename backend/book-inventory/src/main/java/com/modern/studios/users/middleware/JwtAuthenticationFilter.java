@@ -1,8 +1,16 @@
 package com.modern.studios.users.middleware;
 
 import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,22 +26,54 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import com.modern.studios.users.service.JwtService;
+import com.modern.studios.users.service.ParsedToken;
+import com.modern.studios.users.service.TokenPrincipal;
+import com.modern.studios.users.service.UserPrincipalCache;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    /**
+     * What the filter concluded about a request, counted per outcome.
+     */
+    enum Outcome {
+        /** No bearer token was sent. */
+        MISSING,
+        /** The token was revoked by a logout. */
+        REVOKED,
+        /** The token failed verification or does not match its user. */
+        INVALID,
+        /** The request was authenticated. */
+        AUTHENTICATED
+    }
+
     private final HandlerExceptionResolver handlerExceptionResolver;
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final PrincipalSource principalSource;
+    private final Map<Outcome, Counter> outcomeCounters;
 
     public JwtAuthenticationFilter(
             JwtService jwtService,
             UserDetailsService userDetailsService,
-            HandlerExceptionResolver handlerExceptionResolver
+            UserPrincipalCache userPrincipalCache,
+            HandlerExceptionResolver handlerExceptionResolver,
+            @Value("${security.jwt.principal-source:database}") PrincipalSource principalSource,
+            MeterRegistry meterRegistry
     ) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.userPrincipalCache = userPrincipalCache;
         this.handlerExceptionResolver = handlerExceptionResolver;
+        this.principalSource = principalSource;
+        this.outcomeCounters = Stream.of(Outcome.values()).collect(Collectors.toUnmodifiableMap(Function.identity(),
+                outcome -> Counter.builder("auth.filter.requests")
+                        .description("Requests seen by the JWT authentication filter, by outcome")
+                        .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                        .tag("principal.source", principalSource.name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry)));
     }
 
     @Override
@@ -51,27 +91,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String authHeader = request.getHeader("Authorization");
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            count(Outcome.MISSING);
             filterChain.doFilter(request, response);
             return;
         }
 
+        Outcome outcome = Outcome.INVALID;
         try {
             final String jwt = authHeader.substring(7);
-            
-            // Check if token is blacklisted
-            if (jwtService.isTokenBlacklisted(jwt)) {
-                filterChain.doFilter(request, response);
-                return;
-            }
-            
-            final String userEmail = jwtService.extractUsername(jwt);
+
+            // Verify the signature once and reuse the claims for every check below
+            final ParsedToken parsedToken = jwtService.parseToken(jwt);
+
+            final String userEmail = parsedToken.subject();
 
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-            if (userEmail != null && authentication == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            // Check if token is revoked
+            if (jwtService.isTokenRevoked(parsedToken)) {
+                outcome = Outcome.REVOKED;
+            } else if (userEmail != null && authentication != null) {
+                outcome = Outcome.AUTHENTICATED;
+            } else if (userEmail != null) {
+                UserDetails userDetails = resolvePrincipal(parsedToken);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(parsedToken, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -80,14 +124,48 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    outcome = Outcome.AUTHENTICATED;
                 }
             }
-
-            filterChain.doFilter(request, response);
         } catch (Exception exception) {
             // If exception occurs, let the request continue (don't block it)
             // This allows the security chain to handle authorization
-            filterChain.doFilter(request, response);
+            outcome = Outcome.INVALID;
+        }
+
+        // The chain runs outside the try so downstream failures are not mistaken for token failures
+        count(outcome);
+        filterChain.doFilter(request, response);
+    }
+
+    private void count(Outcome outcome) {
+        outcomeCounters.get(outcome).increment();
+    }
+
+    /**
+     * Resolves the principal of a verified token according to the configured {@link PrincipalSource}.
+     * Tokens issued without principal claims fall back to the database in claims mode.
+     *
+     * @param parsedToken The verified token
+     * @return The principal the token belongs to
+     */
+    private UserDetails resolvePrincipal(ParsedToken parsedToken) {
+        String userEmail = parsedToken.subject();
+
+        switch (principalSource) {
+            case CLAIMS -> {
+                TokenPrincipal tokenPrincipal = TokenPrincipal.from(parsedToken);
+                if (tokenPrincipal != null) {
+                    return tokenPrincipal;
+                }
+                return userDetailsService.loadUserByUsername(userEmail);
+            }
+            case CACHE -> {
+                return userPrincipalCache.get(userEmail, userDetailsService::loadUserByUsername);
+            }
+            default -> {
+                return userDetailsService.loadUserByUsername(userEmail);
+            }
         }
     }
 }
@@ -0,0 +1,13 @@
+package com.modern.studios.users.middleware;
+
+/**
+ * Where {@link JwtAuthenticationFilter} resolves the principal of a verified token from.
+ */
+public enum PrincipalSource {
+    /** Load the user from the database on every request. */
+    DATABASE,
+    /** Load the user through the bounded principal cache, falling back to the database on a miss. */
+    CACHE,
+    /** Build the principal from the signed token claims without any lookup. */
+    CLAIMS
+}
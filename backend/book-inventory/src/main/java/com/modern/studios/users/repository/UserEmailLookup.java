@@ -0,0 +1,25 @@
+package com.modern.studios.users.repository;
+
+import java.util.Optional;
+
+import com.modern.studios.users.entity.User;
+
+/**
+ * Email lookup through the Hibernate natural-id API, so repeated lookups of the same user are
+ * served from the second-level cache instead of running a query.
+ */
+public interface UserEmailLookup {
+
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Loads the user from the database, bypassing the second-level cache, for checking a
+     * password. The cache is local to each replica, so without broadcasting a password
+     * changed on another replica would otherwise stay valid here until the entry expires.
+     * The row read refreshes the cached entry.
+     *
+     * @param email The email of the user
+     * @return The user as currently stored
+     */
+    Optional<User> findByEmailForCredentialCheck(String email);
+}
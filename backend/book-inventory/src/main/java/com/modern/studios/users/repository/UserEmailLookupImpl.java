@@ -0,0 +1,57 @@
+package com.modern.studios.users.repository;
+
+import java.util.Optional;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import com.modern.studios.users.entity.User;
+
+/**
+ * Inside a transaction the lookup uses the transaction's session, so the returned user is
+ * managed and later changes are flushed. Outside one (the authentication filter, login) it uses
+ * a short-lived session that only borrows a connection when the caches miss.
+ */
+class UserEmailLookupImpl implements UserEmailLookup {
+
+    private final EntityManager entityManager;
+    private final SessionFactory sessionFactory;
+
+    UserEmailLookupImpl(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(email);
+        }
+
+        try (Session session = sessionFactory.openSession()) {
+            return session.bySimpleNaturalId(User.class).loadOptional(email);
+        }
+    }
+
+    @Override
+    public Optional<User> findByEmailForCredentialCheck(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        try (Session session = sessionFactory.openSession()) {
+            return session.createSelectionQuery("FROM User u WHERE u.email = :email", User.class)
+                    .setParameter("email", email)
+                    .setCacheMode(CacheMode.REFRESH)
+                    .uniqueResultOptional();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.modern.studios.users.repository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.modern.studios.users.dto.admin.UserDetails;
+
+/**
+ * Plain JDBC access to the users table for bulk paths where loading entities
+ * into the persistence context is too expensive.
+ */
+@Repository
+public class UserJdbcRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    /** Every user in (created_at, id) order, without the password hash. */
+    public static final String USER_DETAILS_SQL =
+            "SELECT email, first_name, last_name, created_at FROM users ORDER BY created_at, id";
+
+    public static final RowMapper<UserDetails> USER_DETAILS_ROW_MAPPER = (rs, rowNum) -> new UserDetails(
+            rs.getString("email"),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            rs.getTimestamp("created_at"));
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (id, email, password, first_name, last_name)
+            VALUES (:id, :email, :password, :firstName, :lastName)
+            ON CONFLICT (email) DO NOTHING
+            """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UserJdbcRepository(DataSource dataSource, NamedParameterJdbcTemplate jdbcTemplate) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * A user row to insert, with its id assigned and its password already hashed.
+     */
+    public record NewUser(String id, String email, String passwordHash, String firstName, String lastName) {
+    }
+
+    /**
+     * Streams every user in (created_at, id) order through a forward-only cursor.
+     * Must run inside a transaction, otherwise the Postgres driver ignores the
+     * fetch size and buffers the whole result set.
+     *
+     * @param consumer Receives each row as it is read
+     */
+    public void streamUserDetails(Consumer<UserDetails> consumer) {
+        streamingJdbcTemplate.query(USER_DETAILS_SQL, rs -> {
+            consumer.accept(USER_DETAILS_ROW_MAPPER.mapRow(rs, 0));
+        });
+    }
+
+    /**
+     * Inserts users in JDBC batches, skipping emails that are already registered. With
+     * reWriteBatchedInserts the driver folds each batch into multi-row INSERTs and reports no
+     * per-row counts, so the inserted rows are read back by their ids.
+     *
+     * @param users The users to insert, with distinct emails
+     * @return The emails of the users inserted
+     */
+    public Set<String> insertIgnoringExisting(List<NewUser> users) {
+        Set<String> inserted = new HashSet<>();
+        for (int from = 0; from < users.size(); from += INSERT_BATCH_SIZE) {
+            List<NewUser> batch = users.subList(from, Math.min(from + INSERT_BATCH_SIZE, users.size()));
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream()
+                    .map(user -> new MapSqlParameterSource()
+                            .addValue("id", user.id())
+                            .addValue("email", user.email())
+                            .addValue("password", user.passwordHash())
+                            .addValue("firstName", user.firstName())
+                            .addValue("lastName", user.lastName()))
+                    .toArray(SqlParameterSource[]::new));
+
+            inserted.addAll(jdbcTemplate.queryForList(
+                    "SELECT email FROM users WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", batch.stream().map(NewUser::id).toList()),
+                    String.class));
+        }
+        return inserted;
+    }
+}
@@ -1,14 +1,33 @@
 package com.modern.studios.users.repository;
 
+import com.modern.studios.users.dto.admin.UserSummary;
 import com.modern.studios.users.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Date;
+import java.util.List;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, String>, UserEmailLookup {
 
-    Boolean existsByEmail(String email);
+    /**
+     * Returns the first page of users ordered by (createdAt, id), selecting only the listing columns.
+     */
+    @Query("SELECT new com.modern.studios.users.dto.admin.UserSummary(u.id, u.email, u.firstName, u.lastName, u.createdAt) " +
+            "FROM User u ORDER BY u.createdAt, u.id")
+    List<UserSummary> findFirstSummaries(Limit limit);
+
+    /**
+     * Returns the page of users that follows the given (createdAt, id) position.
+     * The leading range predicate lets Postgres seek on idx_users_created_at_id.
+     */
+    @Query("SELECT new com.modern.studios.users.dto.admin.UserSummary(u.id, u.email, u.firstName, u.lastName, u.createdAt) " +
+            "FROM User u " +
+            "WHERE u.createdAt >= :createdAt AND (u.createdAt > :createdAt OR u.id > :id) " +
+            "ORDER BY u.createdAt, u.id")
+    List<UserSummary> findSummariesAfter(@Param("createdAt") Date createdAt, @Param("id") String id, Limit limit);
 }
@@ -1,14 +1,16 @@
 package com.modern.studios.users.service;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.session.SessionAuthenticationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -17,6 +19,7 @@ import com.modern.studios.users.dto.forgotpassword.ForgotPasswordDTO;
 import com.modern.studios.users.dto.login.LoginUserDTO;
 import com.modern.studios.users.dto.register.RegisterUserDTO;
 import com.modern.studios.users.entity.User;
+import com.modern.studios.users.exception.LoginThrottledException;
 import com.modern.studios.users.repository.UserRepository;
 
 /**
@@ -29,11 +32,14 @@ public class AuthenticationService {
     private static final String USER_NOT_FOUND_MESSAGE = "User not found with the provided email address";
     private static final String EMAIL_ALREADY_EXISTS_MESSAGE = "Email address is already registered. Please use a different email.";
     private static final String PASSWORD_RESET_SUCCESS_MESSAGE = "Password has been successfully reset";
+    private static final String EMAIL_UNIQUE_CONSTRAINT = "users_email_key";
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     /**
      * Constructor for AuthenticationService with dependency injection.
@@ -41,40 +47,76 @@ public class AuthenticationService {
      * @param userRepository        Repository for user data operations
      * @param authenticationManager Spring Security authentication manager
      * @param passwordEncoder       Password encoder for secure password handling
+     * @param passwordHashingExecutor Bounded pool the password hashing runs on
      * @param jwtService            JWT service for token operations
+     * @param userCacheInvalidator  Invalidates cached copies of a user on password change
+     * @param loginAttemptLimiter   Limiter rejecting logins from throttled emails and addresses
      */
     public AuthenticationService(UserRepository userRepository, 
                                AuthenticationManager authenticationManager, 
                                PasswordEncoder passwordEncoder,
-                               JwtService jwtService) {
+                               PasswordHashingExecutor passwordHashingExecutor,
+                               JwtService jwtService,
+                               UserCacheInvalidator userCacheInvalidator,
+                               LoginAttemptLimiter loginAttemptLimiter) {
         this.userRepository = userRepository;
         this.authenticationManager = authenticationManager;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordEncoder = new PooledPasswordEncoder(passwordEncoder, passwordHashingExecutor);
         this.jwtService = jwtService;
+        this.userCacheInvalidator = userCacheInvalidator;
+        this.loginAttemptLimiter = loginAttemptLimiter;
     }
 
     /**
-     * Registers a new user in the system.
+     * Registers a new user in the system with a single INSERT; a duplicate email is
+     * rejected by the unique constraint on users.email, including concurrent signups.
+     * The password is hashed before the insert's transaction begins, so no connection is
+     * held while the hash waits in the hashing pool's queue.
      *
      * @param registerUserDTO User registration data
      * @return The newly created user entity
      * @throws IllegalArgumentException if email is already in use
+     * @throws DataIntegrityViolationException if any other constraint is violated
      */
-    @Transactional
     public User signup(RegisterUserDTO registerUserDTO) {
-        validateEmailNotExists(registerUserDTO.email());
         User newUser = createUserFromRegistrationData(registerUserDTO);
-        return userRepository.save(newUser);
+        try {
+            return userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException ex) {
+            if (violatesEmailUniqueness(ex)) {
+                throw new IllegalArgumentException(EMAIL_ALREADY_EXISTS_MESSAGE);
+            }
+            throw ex;
+        }
     }
 
     /**
-     * Authenticates a user with email and password.
+     * Checks whether a failed insert was rejected by the unique key on users.email, as
+     * opposed to any other constraint on the table.
      *
-     * @param loginUserDTO User login credentials
+     * @param ex The violation raised by the insert
+     * @return true if the violated constraint is the users.email unique key
+     */
+    private boolean violatesEmailUniqueness(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return EMAIL_UNIQUE_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Authenticates a user with email and password. Attempts from a throttled email or
+     * client address are rejected before any password verification takes place.
+     *
+     * @param loginUserDTO  User login credentials
+     * @param clientAddress Address the login attempt comes from
      * @return The authenticated user entity
      * @throws UsernameNotFoundException if user is not found
+     * @throws LoginThrottledException if the email or client address is locked out
      */
-    public User authenticate(LoginUserDTO loginUserDTO) {
+    public User authenticate(LoginUserDTO loginUserDTO, String clientAddress) {
         if (loginUserDTO == null) {
             throw new IllegalArgumentException("Login credentials cannot be null");
         }
@@ -83,27 +125,37 @@ public class AuthenticationService {
         if (email == null || email.trim().isEmpty()) {
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
-        
-        performAuthentication(loginUserDTO);
+
+        loginAttemptLimiter.checkAllowed(email, clientAddress);
+
+        try {
+            performAuthentication(loginUserDTO);
+        } catch (AuthenticationException e) {
+            loginAttemptLimiter.recordFailure(email, clientAddress);
+            throw e;
+        }
+        loginAttemptLimiter.recordSuccess(email);
         
         return userRepository.findByEmail(email.trim())
                 .orElseThrow(() -> new UsernameNotFoundException(USER_NOT_FOUND_MESSAGE));
     }
 
     /**
-     * Resets the password for a user.
+     * Resets the password for a user. The user is read, the new password hashed and the
+     * row saved in separate steps, so no connection is held while hashing; the caches are
+     * evicted once the save has committed.
      *
      * @param forgotPasswordDTO Password reset data containing email and new password
      * @return Success message
      * @throws UsernameNotFoundException if user is not found
      */
-    @Transactional
     public String resetPassword(ForgotPasswordDTO forgotPasswordDTO) {
         User user = userRepository.findByEmail(forgotPasswordDTO.email())
                 .orElseThrow(() -> new UsernameNotFoundException(USER_NOT_FOUND_MESSAGE));
         
         updateUserPassword(user, forgotPasswordDTO.password());
-        userRepository.save(user);
+        User saved = userRepository.save(user);
+        userCacheInvalidator.invalidateAfterCommit(saved);
         
         return PASSWORD_RESET_SUCCESS_MESSAGE;
     }
@@ -140,18 +192,6 @@ public class AuthenticationService {
     }
 
 
-    /**
-     * Validates that the email is not already registered.
-     *
-     * @param email Email to validate
-     * @throws IllegalArgumentException if email already exists
-     */
-    private void validateEmailNotExists(String email) {
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException(EMAIL_ALREADY_EXISTS_MESSAGE);
-        }
-    }
-
     /**
      * Creates a new User entity from registration data.
      *
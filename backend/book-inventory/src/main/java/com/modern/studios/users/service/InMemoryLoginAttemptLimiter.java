@@ -0,0 +1,68 @@
+package com.modern.studios.users.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.modern.studios.users.exception.LoginThrottledException;
+
+/**
+ * Limiter keeping one immutable {@link LoginAttemptWindow} per key in a {@link ConcurrentHashMap}.
+ * Updates are per-key atomic compute operations on the map's striped bins, so attempts
+ * for different emails and addresses never contend on a shared lock.
+ */
+@Component
+@ConditionalOnProperty(name = "security.login-throttle.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptLimiter implements LoginAttemptLimiter {
+
+    private final ConcurrentMap<String, LoginAttemptWindow> windows = new ConcurrentHashMap<>();
+    private final LoginThrottlePolicy policy;
+
+    public InMemoryLoginAttemptLimiter(LoginThrottlePolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public void checkAllowed(String email, String clientAddress) {
+        long now = System.currentTimeMillis();
+        checkKey(LoginAttemptLimiter.emailKey(email), now);
+        checkKey(LoginAttemptLimiter.addressKey(clientAddress), now);
+    }
+
+    @Override
+    public void recordFailure(String email, String clientAddress) {
+        long now = System.currentTimeMillis();
+        recordFailure(LoginAttemptLimiter.emailKey(email), policy.maxFailuresPerEmail(), now);
+        recordFailure(LoginAttemptLimiter.addressKey(clientAddress), policy.maxFailuresPerAddress(), now);
+    }
+
+    @Override
+    public void recordSuccess(String email) {
+        windows.remove(LoginAttemptLimiter.emailKey(email));
+    }
+
+    /**
+     * Drops keys that are neither locked nor have failures left in the sliding window.
+     */
+    @Scheduled(fixedDelayString = "${security.login-throttle.purge-interval-ms:60000}")
+    public void purgeIdle() {
+        long now = System.currentTimeMillis();
+        windows.values().removeIf(window -> window.isIdle(now, policy.windowMillis()));
+    }
+
+    private void checkKey(String key, long now) {
+        LoginAttemptWindow window = windows.get(key);
+        if (window != null && window.isLocked(now)) {
+            long retryAfterSeconds = (window.lockedUntil() - now + 999) / 1000;
+            throw new LoginThrottledException("Too many failed login attempts, retry in " + retryAfterSeconds + " seconds");
+        }
+    }
+
+    private void recordFailure(String key, int limit, long now) {
+        windows.compute(key, (k, window) ->
+                (window != null ? window : LoginAttemptWindow.empty(now)).recordFailure(now, limit, policy));
+    }
+}
@@ -0,0 +1,49 @@
+package com.modern.studios.users.service;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revocation store held in a {@link ConcurrentHashMap}. Lookups are lock-free and
+ * expired entries are dropped on read and by a periodic purge, so the map only
+ * ever holds tokens that could still pass signature verification.
+ */
+@Component
+@ConditionalOnProperty(name = "security.jwt.revocation-store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    // Token id -> expiry in epoch milliseconds
+    private final ConcurrentMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (expiresAt.isAfter(Instant.now())) {
+            revokedTokens.put(tokenId, expiresAt.toEpochMilli());
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revokedTokens.get(tokenId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            revokedTokens.remove(tokenId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${security.jwt.revocation-store.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
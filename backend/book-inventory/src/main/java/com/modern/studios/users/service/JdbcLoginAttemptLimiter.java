@@ -0,0 +1,105 @@
+package com.modern.studios.users.service;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.modern.studios.users.exception.LoginThrottledException;
+
+/**
+ * Limiter sharing its windows through the {@code login_attempts} table so every replica
+ * sees the same counters and lockouts. Each failure locks only the row of its own key.
+ */
+@Component
+@ConditionalOnProperty(name = "security.login-throttle.store", havingValue = "jdbc")
+public class JdbcLoginAttemptLimiter implements LoginAttemptLimiter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LoginThrottlePolicy policy;
+
+    public JdbcLoginAttemptLimiter(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   LoginThrottlePolicy policy) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.policy = policy;
+    }
+
+    @Override
+    public void checkAllowed(String email, String clientAddress) {
+        long now = System.currentTimeMillis();
+        List<Timestamp> lockedUntil = jdbcTemplate.queryForList(
+                "SELECT locked_until FROM login_attempts WHERE attempt_key IN (?, ?) AND locked_until > ?",
+                Timestamp.class,
+                LoginAttemptLimiter.emailKey(email),
+                LoginAttemptLimiter.addressKey(clientAddress),
+                new Timestamp(now));
+
+        if (!lockedUntil.isEmpty()) {
+            long until = lockedUntil.stream().mapToLong(Timestamp::getTime).max().getAsLong();
+            long retryAfterSeconds = (until - now + 999) / 1000;
+            throw new LoginThrottledException("Too many failed login attempts, retry in " + retryAfterSeconds + " seconds");
+        }
+    }
+
+    @Override
+    public void recordFailure(String email, String clientAddress) {
+        recordFailure(LoginAttemptLimiter.emailKey(email), policy.maxFailuresPerEmail());
+        recordFailure(LoginAttemptLimiter.addressKey(clientAddress), policy.maxFailuresPerAddress());
+    }
+
+    @Override
+    public void recordSuccess(String email) {
+        jdbcTemplate.update("DELETE FROM login_attempts WHERE attempt_key = ?", LoginAttemptLimiter.emailKey(email));
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-throttle.purge-interval-ms:60000}")
+    public void purgeIdle() {
+        // Quiet time counts from the end of a lockout, so a key keeps its backoff while the lockout runs
+        Timestamp quietSince = new Timestamp(System.currentTimeMillis() - 2 * policy.windowMillis());
+        jdbcTemplate.update(
+                "DELETE FROM login_attempts WHERE (locked_until IS NULL OR locked_until < ?) AND window_start < ?",
+                quietSince,
+                quietSince);
+    }
+
+    private void recordFailure(String key, int limit) {
+        transactionTemplate.executeWithoutResult(status -> {
+            long now = System.currentTimeMillis();
+            jdbcTemplate.update(
+                    "INSERT INTO login_attempts (attempt_key, window_start) VALUES (?, ?) ON CONFLICT (attempt_key) DO NOTHING",
+                    key, new Timestamp(now));
+
+            LoginAttemptWindow window = jdbcTemplate.queryForObject(
+                    "SELECT window_start, current_count, previous_count, lockouts, locked_until " +
+                            "FROM login_attempts WHERE attempt_key = ? FOR UPDATE",
+                    (rs, rowNum) -> {
+                        Timestamp lockedUntil = rs.getTimestamp("locked_until");
+                        return new LoginAttemptWindow(
+                                rs.getTimestamp("window_start").getTime(),
+                                rs.getInt("current_count"),
+                                rs.getInt("previous_count"),
+                                rs.getInt("lockouts"),
+                                lockedUntil != null ? lockedUntil.getTime() : 0L);
+                    },
+                    key);
+
+            LoginAttemptWindow updated = window.recordFailure(now, limit, policy);
+            jdbcTemplate.update(
+                    "UPDATE login_attempts SET window_start = ?, current_count = ?, previous_count = ?, lockouts = ?, locked_until = ? " +
+                            "WHERE attempt_key = ?",
+                    new Timestamp(updated.windowStart()),
+                    updated.currentCount(),
+                    updated.previousCount(),
+                    updated.lockouts(),
+                    updated.lockedUntil() > 0 ? new Timestamp(updated.lockedUntil()) : null,
+                    key);
+        });
+    }
+}
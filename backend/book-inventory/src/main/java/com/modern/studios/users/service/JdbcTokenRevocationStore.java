@@ -0,0 +1,77 @@
+package com.modern.studios.users.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revocation store persisted in the {@code revoked_tokens} table so revocations survive
+ * restarts and are shared across replicas. Lookups are served from a local lock-free
+ * replica which is refreshed from the table periodically; writes go to both.
+ */
+@Component
+@ConditionalOnProperty(name = "security.jwt.revocation-store.type", havingValue = "jdbc")
+public class JdbcTokenRevocationStore implements TokenRevocationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcTokenRevocationStore.class);
+
+    // Re-read a small window on every sync so rows committed late by other replicas are not missed
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InMemoryTokenRevocationStore localReplica = new InMemoryTokenRevocationStore();
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public JdbcTokenRevocationStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void loadRevokedTokens() {
+        syncFromDatabase();
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        jdbcTemplate.update(
+                "INSERT INTO revoked_tokens (token_id, expires_at) VALUES (?, ?) ON CONFLICT (token_id) DO NOTHING",
+                tokenId, Timestamp.from(expiresAt));
+        localReplica.revoke(tokenId, expiresAt);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return localReplica.isRevoked(tokenId);
+    }
+
+    /**
+     * Pulls revocations made by other replicas since the last sync into the local replica.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation-store.sync-interval-ms:2000}")
+    public void syncFromDatabase() {
+        Instant syncStartedAt = Instant.now();
+        jdbcTemplate.query(
+                "SELECT token_id, expires_at FROM revoked_tokens WHERE revoked_at >= ? AND expires_at > CURRENT_TIMESTAMP",
+                rs -> {
+                    localReplica.revoke(rs.getString("token_id"), rs.getTimestamp("expires_at").toInstant());
+                },
+                Timestamp.from(lastSync));
+        lastSync = syncStartedAt.minus(SYNC_OVERLAP);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${security.jwt.revocation-store.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at <= CURRENT_TIMESTAMP");
+        localReplica.purgeExpired();
+        logger.debug("Purged {} expired token revocations", purged);
+    }
+}
@@ -1,55 +1,111 @@
 package com.modern.studios.users.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.modern.studios.users.entity.User;
+
 import java.security.Key;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${security.jwt.secret-key}")
-    private String secretKey;
-
-    @Value("${security.jwt.expiration-time}")
-    private long jwtExpiration;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_FIRST_NAME = "fn";
+    public static final String CLAIM_LAST_NAME = "ln";
+    public static final String CLAIM_VERSION = "ver";
+
+    private final long jwtExpiration;
+
+    // Signing key and parser are immutable and thread-safe, so they are built once
+    private final Key signInKey;
+    private final JwtParser jwtParser;
+
+    // Revoked token ids, kept only until the tokens expire
+    private final TokenRevocationStore tokenRevocationStore;
+
+    private final Timer generateTimer;
+    private final Timer parseTimer;
+    private final Timer verifyTimer;
+
+    public JwtService(@Value("${security.jwt.secret-key}") String secretKey,
+                      @Value("${security.jwt.expiration-time}") long jwtExpiration,
+                      TokenRevocationStore tokenRevocationStore,
+                      MeterRegistry meterRegistry) {
+        this.jwtExpiration = jwtExpiration;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.generateTimer = operationTimer(meterRegistry, "generate");
+        this.parseTimer = operationTimer(meterRegistry, "parse");
+        this.verifyTimer = operationTimer(meterRegistry, "verify");
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+    }
 
-    // In-memory blacklist for invalidated tokens
-    private final Set<String> tokenBlacklist = new HashSet<>();
+    /**
+     * Verifies the signature of a token once and returns its claims as a value object.
+     *
+     * @param token The compact JWT string
+     * @return The verified token
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, expired or its signature is invalid
+     */
+    public ParsedToken parseToken(String token) {
+        return parseTimer.record(() -> new ParsedToken(token, extractAllClaims(token)));
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return parseTimer.record(() -> claimsResolver.apply(extractAllClaims(token)));
     }
 
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        return generateToken(principalClaims(userDetails), userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+        return generateTimer.record(() -> buildToken(extraClaims, userDetails, jwtExpiration));
     }
 
     public long getExpirationTime() {
         return jwtExpiration;
     }
 
+    /**
+     * Builds the claims needed to reconstruct the principal without a database lookup.
+     *
+     * @param userDetails The user the token is issued to
+     * @return Mutable map of principal claims, empty if the user is not a {@link User}
+     */
+    private Map<String, Object> principalClaims(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user) {
+            claims.put(CLAIM_USER_ID, user.getId());
+            claims.put(CLAIM_FIRST_NAME, user.getFirstName());
+            claims.put(CLAIM_LAST_NAME, user.getLastName());
+            claims.put(CLAIM_VERSION, user.getUpdatedAt() != null ? user.getUpdatedAt().getTime() : 0L);
+        }
+        return claims;
+    }
+
     private String buildToken(
             Map<String, Object> extraClaims,
             UserDetails userDetails,
@@ -59,57 +115,69 @@ public class JwtService {
                 .builder()
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) 
-                && !isTokenExpired(token) 
-                && !isTokenBlacklisted(token);
+        ParsedToken parsedToken = parseToken(token);
+        return !isTokenRevoked(parsedToken) && isTokenValid(parsedToken, userDetails);
     }
 
     /**
-     * Invalidates a token by adding it to the blacklist.
+     * Checks an already verified token against a user without parsing it again. Revocation
+     * is not checked here: the caller has already looked the token up with
+     * {@link #isTokenRevoked(ParsedToken)}, as the authentication filter does, so the
+     * revocation store is queried once per request.
      *
-     * @param token The JWT token to invalidate
+     * @param parsedToken The verified token
+     * @param userDetails The user the token is expected to belong to
+     * @return true if the token belongs to the user and has not expired
      */
-    public void invalidateToken(String token) {
-        tokenBlacklist.add(token);
+    public boolean isTokenValid(ParsedToken parsedToken, UserDetails userDetails) {
+        Boolean valid = verifyTimer.record(() -> parsedToken.isIssuedTo(userDetails));
+        return Boolean.TRUE.equals(valid);
     }
 
     /**
-     * Checks if a token is blacklisted.
+     * Invalidates a token by revoking its id until the token expires.
+     * Tokens that are already expired or fail verification are ignored.
      *
-     * @param token The JWT token to check
-     * @return true if the token is blacklisted, false otherwise
+     * @param token The JWT token to invalidate
      */
-    public boolean isTokenBlacklisted(String token) {
-        return tokenBlacklist.contains(token);
+    public void invalidateToken(String token) {
+        ParsedToken parsedToken;
+        try {
+            parsedToken = parseToken(token);
+        } catch (JwtException e) {
+            return;
+        }
+        tokenRevocationStore.revoke(parsedToken.tokenId(), parsedToken.expiration().toInstant());
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Checks if a token has been revoked.
+     *
+     * @param parsedToken The verified token to check
+     * @return true if the token is revoked, false otherwise
+     */
+    public boolean isTokenRevoked(ParsedToken parsedToken) {
+        return tokenRevocationStore.isRevoked(parsedToken.tokenId());
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private static Timer operationTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.jwt")
+                .description("Time spent generating, parsing and verifying JWTs")
+                .tag("operation", operation)
+                .register(meterRegistry);
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
-
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -0,0 +1,43 @@
+package com.modern.studios.users.service;
+
+import com.modern.studios.users.exception.LoginThrottledException;
+
+/**
+ * Sliding-window limiter for failed logins, tracked separately per email and per client address.
+ * Keys that exceed their limit are locked out for an exponentially growing period.
+ */
+public interface LoginAttemptLimiter {
+
+    /**
+     * Rejects the attempt if either the email or the client address is locked out.
+     *
+     * @param email         The email being logged in to
+     * @param clientAddress The address the attempt comes from
+     * @throws LoginThrottledException if the attempt must be rejected
+     */
+    void checkAllowed(String email, String clientAddress);
+
+    /**
+     * Counts a failed attempt against both the email and the client address.
+     *
+     * @param email         The email being logged in to
+     * @param clientAddress The address the attempt comes from
+     */
+    void recordFailure(String email, String clientAddress);
+
+    /**
+     * Clears the failure history of the email after a successful login. The client address
+     * keeps its history so one valid account cannot be used to reset an attacker's budget.
+     *
+     * @param email The email that logged in
+     */
+    void recordSuccess(String email);
+
+    static String emailKey(String email) {
+        return "email:" + email.trim().toLowerCase();
+    }
+
+    static String addressKey(String clientAddress) {
+        return "ip:" + clientAddress;
+    }
+}
@@ -0,0 +1,81 @@
+package com.modern.studios.users.service;
+
+/**
+ * Immutable failure history of one limiter key. Uses the two-bucket sliding window
+ * approximation: the previous fixed window's count is weighted by how much of it still
+ * overlaps the sliding window ending now.
+ *
+ * @param windowStart   Start of the current fixed window in epoch milliseconds
+ * @param currentCount  Failures in the current fixed window
+ * @param previousCount Failures in the previous fixed window
+ * @param lockouts      Number of consecutive lockouts, drives the exponential backoff
+ * @param lockedUntil   Epoch milliseconds until which the key is locked, 0 if not locked
+ */
+public record LoginAttemptWindow(long windowStart, int currentCount, int previousCount, int lockouts, long lockedUntil) {
+
+    public static LoginAttemptWindow empty(long now) {
+        return new LoginAttemptWindow(now, 0, 0, 0, 0L);
+    }
+
+    public boolean isLocked(long now) {
+        return lockedUntil > now;
+    }
+
+    /**
+     * Whether the key holds no state worth keeping: not locked, and quiet for two full windows
+     * since its last failure or lockout, so that forgetting it also forgets its backoff.
+     */
+    public boolean isIdle(long now, long windowMillis) {
+        return !isLocked(now) && quietMillis(now) >= 2 * windowMillis;
+    }
+
+    /**
+     * Returns the window after one more failure, locking the key if it reaches the limit.
+     *
+     * @param now    Current time in epoch milliseconds
+     * @param limit  Failures allowed within the sliding window
+     * @param policy Window length and lockout durations
+     * @return The updated window
+     */
+    public LoginAttemptWindow recordFailure(long now, int limit, LoginThrottlePolicy policy) {
+        LoginAttemptWindow rolled = rollTo(now, policy.windowMillis());
+        int currentCount = rolled.currentCount + 1;
+
+        double elapsedFraction = (double) (now - rolled.windowStart) / policy.windowMillis();
+        double estimate = currentCount + rolled.previousCount * (1.0 - elapsedFraction);
+        if (estimate < limit) {
+            return new LoginAttemptWindow(rolled.windowStart, currentCount, rolled.previousCount, rolled.lockouts, rolled.lockedUntil);
+        }
+
+        int lockouts = rolled.lockouts + 1;
+        long lockoutMillis = Math.min(policy.maxLockoutMillis(), policy.baseLockoutMillis() << Math.min(lockouts - 1, 20));
+        // Start counting afresh once the lockout ends
+        return new LoginAttemptWindow(now, 0, 0, lockouts, now + lockoutMillis);
+    }
+
+    /**
+     * Moves the fixed window forward so that it contains {@code now}.
+     */
+    private LoginAttemptWindow rollTo(long now, long windowMillis) {
+        if (quietMillis(now) >= 2 * windowMillis) {
+            // Two windows without a failure, not counting time spent locked out, reset the backoff as well
+            return new LoginAttemptWindow(now, 0, 0, 0, lockedUntil);
+        }
+
+        long elapsed = now - windowStart;
+        if (elapsed < windowMillis) {
+            return this;
+        }
+        if (elapsed < 2 * windowMillis) {
+            return new LoginAttemptWindow(windowStart + windowMillis, 0, currentCount, lockouts, lockedUntil);
+        }
+        return new LoginAttemptWindow(now, 0, 0, lockouts, lockedUntil);
+    }
+
+    /**
+     * Time since the key was last active: its window start, or the end of its lockout if later.
+     */
+    private long quietMillis(long now) {
+        return now - Math.max(windowStart, lockedUntil);
+    }
+}
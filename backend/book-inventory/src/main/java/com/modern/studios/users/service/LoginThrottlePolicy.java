@@ -0,0 +1,30 @@
+package com.modern.studios.users.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits applied by the {@link LoginAttemptLimiter} implementations.
+ */
+@Component
+public record LoginThrottlePolicy(
+        @Value("${security.login-throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+        @Value("${security.login-throttle.max-failures-per-address:20}") int maxFailuresPerAddress,
+        @Value("${security.login-throttle.window:15m}") Duration window,
+        @Value("${security.login-throttle.base-lockout:1m}") Duration baseLockout,
+        @Value("${security.login-throttle.max-lockout:1h}") Duration maxLockout) {
+
+    public long windowMillis() {
+        return window.toMillis();
+    }
+
+    public long baseLockoutMillis() {
+        return baseLockout.toMillis();
+    }
+
+    public long maxLockoutMillis() {
+        return maxLockout.toMillis();
+    }
+}
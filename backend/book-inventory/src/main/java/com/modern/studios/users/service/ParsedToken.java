@@ -0,0 +1,67 @@
+package com.modern.studios.users.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * A JWT whose signature has already been verified by {@link JwtService#parseToken(String)}.
+ * Carries the raw token together with its claims so callers can inspect the subject,
+ * expiration and custom claims without parsing the token again.
+ *
+ * @param token  The compact JWT string
+ * @param claims The verified claims of the token
+ */
+public record ParsedToken(String token, Claims claims) {
+
+    public String subject() {
+        return claims.getSubject();
+    }
+
+    /**
+     * Compact id used to revoke the token: the jti claim, or a SHA-256 hash of the
+     * token for tokens issued before the jti claim was added.
+     *
+     * @return The token id
+     */
+    public String tokenId() {
+        String jti = claims.getId();
+        if (jti != null) {
+            return jti;
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public Date issuedAt() {
+        return claims.getIssuedAt();
+    }
+
+    public Date expiration() {
+        return claims.getExpiration();
+    }
+
+    public boolean isExpired() {
+        return expiration().before(new Date());
+    }
+
+    /**
+     * Checks that the token belongs to the given user and has not expired.
+     *
+     * @param userDetails The user the token is expected to belong to
+     * @return true if the subject matches and the token is not expired
+     */
+    public boolean isIssuedTo(UserDetails userDetails) {
+        return userDetails.getUsername().equals(subject()) && !isExpired();
+    }
+}
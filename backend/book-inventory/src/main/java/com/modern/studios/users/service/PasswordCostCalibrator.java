@@ -0,0 +1,63 @@
+package com.modern.studios.users.service;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks the BCrypt strength whose hash time on this host stays within a target latency.
+ * Each strength step doubles the work, so the search stops at the first strength whose
+ * successor would overshoot the target.
+ */
+public final class PasswordCostCalibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordCostCalibrator.class);
+
+    // Never go below the Spring Security default, and cap the time spent calibrating at startup
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 14;
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private PasswordCostCalibrator() {
+    }
+
+    /**
+     * Measures BCrypt hash time at increasing strengths.
+     *
+     * @param targetLatency The hash latency to stay within
+     * @return The highest strength whose hash time does not exceed the target, at least {@value #MIN_STRENGTH}
+     */
+    public static int calibrateBcryptStrength(Duration targetLatency) {
+        long targetNanos = targetLatency.toNanos();
+        int strength = MIN_STRENGTH;
+
+        while (strength < MAX_STRENGTH) {
+            long measured = measureBcrypt(strength);
+            logger.debug("BCrypt strength {} takes {} ms", strength, Duration.ofNanos(measured).toMillis());
+            if (measured * 2 > targetNanos) {
+                break;
+            }
+            strength++;
+        }
+
+        logger.info("Calibrated BCrypt strength {} for a target hash latency of {} ms", strength, targetLatency.toMillis());
+        return strength;
+    }
+
+    private static long measureBcrypt(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        // Warm up once so JIT compilation is not counted
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,50 @@
+package com.modern.studios.users.service;
+
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.modern.studios.users.exception.PasswordHashingBusyException;
+
+/**
+ * Runs hashing and verification on the bounded {@link PasswordHashingExecutor}, leaving the
+ * rest of a login, signup or reset (database queries, token work) on the calling thread. The
+ * caller waits for the result; a full hashing queue surfaces as {@link PasswordHashingBusyException}.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor passwordHashingExecutor) {
+        this.delegate = delegate;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T await(Supplier<T> task) {
+        try {
+            return passwordHashingExecutor.submit(task).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
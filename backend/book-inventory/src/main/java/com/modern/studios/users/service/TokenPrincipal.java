@@ -0,0 +1,58 @@
+package com.modern.studios.users.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Principal built entirely from the signed claims of a JWT, used when the
+ * authentication filter runs in stateless mode and must not touch the database.
+ *
+ * @param userId    The id of the user the token was issued to
+ * @param email     The email (subject) of the token
+ * @param firstName The first name at the time the token was issued
+ * @param lastName  The last name at the time the token was issued
+ * @param version   Version stamp of the user row when the token was issued
+ */
+public record TokenPrincipal(String userId, String email, String firstName, String lastName, long version)
+        implements UserDetails {
+
+    /**
+     * Builds a principal from a verified token.
+     *
+     * @param parsedToken The verified token
+     * @return The principal, or null if the token does not carry the principal claims
+     */
+    public static TokenPrincipal from(ParsedToken parsedToken) {
+        String userId = parsedToken.claims().get(JwtService.CLAIM_USER_ID, String.class);
+        if (userId == null) {
+            return null;
+        }
+
+        Number version = parsedToken.claims().get(JwtService.CLAIM_VERSION, Number.class);
+        return new TokenPrincipal(
+                userId,
+                parsedToken.subject(),
+                parsedToken.claims().get(JwtService.CLAIM_FIRST_NAME, String.class),
+                parsedToken.claims().get(JwtService.CLAIM_LAST_NAME, String.class),
+                version != null ? version.longValue() : 0L
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of();
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
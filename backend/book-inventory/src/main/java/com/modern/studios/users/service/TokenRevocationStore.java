@@ -0,0 +1,31 @@
+package com.modern.studios.users.service;
+
+import java.time.Instant;
+
+/**
+ * Store of revoked JWTs keyed by a compact token id. Entries only need to live
+ * until the token expires, after which the signature check rejects it anyway.
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * Revokes a token until it expires.
+     *
+     * @param tokenId   The id of the token (jti claim or token hash)
+     * @param expiresAt When the token expires and the entry can be dropped
+     */
+    void revoke(String tokenId, Instant expiresAt);
+
+    /**
+     * Checks if a token has been revoked. Called on every authenticated request.
+     *
+     * @param tokenId The id of the token
+     * @return true if the token is revoked and not yet expired
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * Drops entries whose tokens have expired.
+     */
+    void purgeExpired();
+}
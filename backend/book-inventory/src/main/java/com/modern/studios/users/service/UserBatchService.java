@@ -0,0 +1,184 @@
+package com.modern.studios.users.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.modern.studios.users.batch.UserImportRejections;
+import com.modern.studios.users.batch.UserImportWriter;
+import com.modern.studios.users.configuration.UserBatchJobConfiguration;
+import com.modern.studios.users.dto.admin.UserImportJobResultDTO;
+import com.modern.studios.users.exception.UserImportAlreadyCompletedException;
+
+/**
+ * Launches the CSV user import and export jobs.
+ */
+@Service
+public class UserBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserBatchService.class);
+
+    private final JobOperator jobOperator;
+    private final Job userImportJob;
+    private final Job userExportJob;
+    private final Path workDirectory;
+
+    public UserBatchService(JobOperator jobOperator,
+                            @Qualifier("userImportJob") Job userImportJob,
+                            @Qualifier("userExportJob") Job userExportJob,
+                            @Value("${users.batch.work-dir:${java.io.tmpdir}/book-inventory/users}") Path workDirectory) {
+        this.jobOperator = jobOperator;
+        this.userImportJob = userImportJob;
+        this.userExportJob = userExportJob;
+        this.workDirectory = workDirectory;
+    }
+
+    /**
+     * Imports users from a CSV file. Like shipment files, the file is stored under its SHA-256
+     * hash, which identifies the job instance: uploading the same file again after a failure
+     * restarts the job from its last committed chunk. The file holds plaintext passwords, so it
+     * is kept only while the job can be restarted and deleted, with its rejections, once the
+     * job completes.
+     *
+     * @param csvFile CSV file with the header {@code email,password,first_name,last_name}
+     * @return The outcome of the job execution, with the rows that did not create a user
+     * @throws UserImportAlreadyCompletedException if the same file was already imported successfully
+     */
+    public UserImportJobResultDTO importUsers(MultipartFile csvFile) {
+        Path inputFile = storeUpload(csvFile);
+        JobParameters parameters = new JobParametersBuilder()
+                .addString(UserBatchJobConfiguration.INPUT_FILE_PARAMETER, inputFile.toString())
+                .toJobParameters();
+
+        JobExecution execution;
+        try {
+            execution = jobOperator.start(userImportJob, parameters);
+        } catch (JobInstanceAlreadyCompleteException e) {
+            deleteImportFiles(inputFile);
+            throw new UserImportAlreadyCompletedException("User file " + inputFile.getFileName() + " has already been imported");
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to start the user import job", e);
+        }
+
+        // The step context holds the totals as of the last committed chunk, carried over from
+        // earlier executions of a restarted import just like the rejections file
+        long created = sumOfStepContexts(execution, UserImportWriter.CREATED_KEY);
+        long duplicates = sumOfStepContexts(execution, UserImportWriter.DUPLICATES_KEY);
+        long invalidRows = sumOfStepContexts(execution, UserImportRejections.INVALID_ROWS_KEY);
+        List<String> rejections = readRejections(inputFile);
+        if (execution.getStatus() == BatchStatus.COMPLETED) {
+            deleteImportFiles(inputFile);
+        }
+
+        logger.info("User import {} finished with status {}", inputFile.getFileName(), execution.getStatus());
+        return new UserImportJobResultDTO(
+                execution.getId(),
+                execution.getStatus().name(),
+                execution.getExitStatus().getExitCode(),
+                created + duplicates + invalidRows,
+                created,
+                duplicates,
+                invalidRows,
+                rejections
+        );
+    }
+
+    /**
+     * Exports every user, without password hashes, to a CSV file in the work directory. The
+     * caller owns the file and deletes it once it has been sent.
+     *
+     * @return The exported file, with the header {@code email,first_name,last_name,created_at}
+     */
+    public Path exportUsers() {
+        Path outputFile = workDirectory.resolve("users-export-" + UUID.randomUUID() + ".csv").toAbsolutePath();
+        JobParameters parameters = new JobParametersBuilder()
+                .addString(UserBatchJobConfiguration.OUTPUT_FILE_PARAMETER, outputFile.toString())
+                .toJobParameters();
+
+        JobExecution execution;
+        try {
+            Files.createDirectories(workDirectory);
+            execution = jobOperator.start(userExportJob, parameters);
+        } catch (Exception e) {
+            deleteQuietly(outputFile);
+            throw new IllegalStateException("Unable to start the user export job", e);
+        }
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            deleteQuietly(outputFile);
+            throw new IllegalStateException("User export job finished with status " + execution.getStatus());
+        }
+
+        logger.info("Exported users to {}", outputFile.getFileName());
+        return outputFile;
+    }
+
+    private void deleteImportFiles(Path inputFile) {
+        deleteQuietly(inputFile);
+        deleteQuietly(UserImportRejections.fileFor(inputFile));
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Unable to delete {}", file, e);
+        }
+    }
+
+    private static long sumOfStepContexts(JobExecution execution, String key) {
+        return execution.getStepExecutions().stream()
+                .mapToLong(stepExecution -> stepExecution.getExecutionContext().getLong(key, 0))
+                .sum();
+    }
+
+    private List<String> readRejections(Path inputFile) {
+        Path rejectionsFile = UserImportRejections.fileFor(inputFile);
+        try {
+            return Files.exists(rejectionsFile) ? Files.readAllLines(rejectionsFile) : List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the import rejections file", e);
+        }
+    }
+
+    private Path storeUpload(MultipartFile csvFile) {
+        try {
+            Files.createDirectories(workDirectory);
+            Path upload = Files.createTempFile(workDirectory, "upload-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(csvFile.getInputStream(), digest)) {
+                Files.copy(in, upload, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            Path target = workDirectory.resolve(HexFormat.of().formatHex(digest.digest()) + ".csv");
+            Files.move(upload, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target.toAbsolutePath();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to store the user file", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.modern.studios.users.service;
+
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Broadcasts user changes to the other replicas over Kafka so they evict their cached copies.
+ * Every instance consumes the topic in its own consumer group and skips its own messages.
+ * Messages are keyed by email and carry the sending instance and the user id.
+ * Delivery is best effort: an instance that misses a message serves the old row until the
+ * cache TTL expires.
+ */
+@Component
+@ConditionalOnProperty(name = "security.user-cache.broadcast.enabled", havingValue = "true")
+public class UserCacheInvalidationBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCacheInvalidationBroadcaster.class);
+    private static final char SEPARATOR = ' ';
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final String topic;
+
+    public UserCacheInvalidationBroadcaster(KafkaTemplate<String, String> kafkaTemplate,
+                                            @Lazy UserCacheInvalidator userCacheInvalidator,
+                                            @Value("${security.user-cache.broadcast.topic:user-cache-invalidation}") String topic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.userCacheInvalidator = userCacheInvalidator;
+        this.topic = topic;
+    }
+
+    /**
+     * Tells the other replicas that a user changed.
+     *
+     * @param userId The id of the user
+     * @param email  The email of the user
+     */
+    public void publish(String userId, String email) {
+        kafkaTemplate.send(topic, email, instanceId + SEPARATOR + userId)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        logger.warn("Unable to broadcast cache invalidation for user {}: {}", userId, e.getMessage());
+                    }
+                });
+    }
+
+    @KafkaListener(topics = "${security.user-cache.broadcast.topic:user-cache-invalidation}",
+            groupId = "user-cache-${random.uuid}")
+    void onInvalidation(ConsumerRecord<String, String> message) {
+        String value = message.value();
+        int separator = value.indexOf(SEPARATOR);
+        if (separator < 0 || value.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+
+        userCacheInvalidator.evictLocally(value.substring(separator + 1), message.key());
+    }
+}
@@ -0,0 +1,70 @@
+package com.modern.studios.users.service;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+import com.modern.studios.users.entity.User;
+
+/**
+ * Keeps the caches holding users consistent with the users table. Changes made through
+ * Hibernate update the second-level cache on commit by themselves; this evicts the principal
+ * cache, and when broadcasting is enabled tells the other replicas to evict their copies.
+ */
+@Component
+public class UserCacheInvalidator {
+
+    private final UserPrincipalCache userPrincipalCache;
+    private final SessionFactory sessionFactory;
+    private final ObjectProvider<UserCacheInvalidationBroadcaster> broadcaster;
+
+    public UserCacheInvalidator(UserPrincipalCache userPrincipalCache,
+                                EntityManagerFactory entityManagerFactory,
+                                ObjectProvider<UserCacheInvalidationBroadcaster> broadcaster) {
+        this.userPrincipalCache = userPrincipalCache;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Evicts the user from the principal cache once the current transaction commits, so a
+     * concurrent request cannot re-cache the old row, and notifies the other replicas.
+     * Acts immediately when no transaction is active.
+     *
+     * @param user The changed user
+     */
+    public void invalidateAfterCommit(User user) {
+        String userId = user.getId();
+        String email = user.getEmail();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidated(userId, email);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidated(userId, email);
+            }
+        });
+    }
+
+    /**
+     * Drops a user changed by another replica from this instance's caches.
+     *
+     * @param userId The id of the user
+     * @param email  The email of the user
+     */
+    public void evictLocally(String userId, String email) {
+        sessionFactory.getCache().evictEntityData(User.class, userId);
+        userPrincipalCache.evict(email);
+    }
+
+    private void invalidated(String userId, String email) {
+        userPrincipalCache.evict(email);
+        broadcaster.ifAvailable(b -> b.publish(userId, email));
+    }
+}
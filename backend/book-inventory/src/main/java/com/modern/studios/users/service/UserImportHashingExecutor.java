@@ -0,0 +1,72 @@
+package com.modern.studios.users.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared pool hashing the passwords of bulk imports, whether from the import API or the batch
+ * job. It defaults to a quarter of the CPUs, so however many imports run at once they leave
+ * most cores to the login hashing pool. Submitting blocks once the pool has a task queued per
+ * thread, keeping the backlog of a large import out of memory.
+ */
+@Component
+public class UserImportHashingExecutor {
+
+    private final ExecutorService executor;
+    private final Semaphore slots;
+
+    public UserImportHashingExecutor(@Value("${security.user-import.hashing-threads:0}") int threads) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        this.executor = Executors.newFixedThreadPool(poolSize, new ImportHashingThreadFactory());
+        this.slots = new Semaphore(poolSize * 2);
+    }
+
+    /**
+     * Runs a hashing task, waiting for a slot if the pool is saturated.
+     *
+     * @param task The task to run
+     * @param <T>  The result type of the task
+     * @return Future completed with the result of the task
+     * @throws InterruptedException if interrupted while waiting for a slot
+     */
+    public <T> Future<T> submit(Callable<T> task) throws InterruptedException {
+        slots.acquire();
+        try {
+            return executor.submit(() -> {
+                try {
+                    return task.call();
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class ImportHashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "user-import-hashing-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.modern.studios.users.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.modern.studios.users.dto.admin.UserImportResultDTO;
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+import com.modern.studios.users.repository.UserJdbcRepository;
+
+/**
+ * Registers a cohort of users in one call. Passwords are hashed in parallel on the shared
+ * {@link UserImportHashingExecutor}, sized below the CPU count and apart from the queue that
+ * logins and signups hash on, and only then are the rows inserted in JDBC batches within a
+ * single transaction. Emails already registered are skipped by the unique constraint rather
+ * than checked one by one.
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserImportHashingExecutor hashingExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserImportService(UserJdbcRepository userJdbcRepository,
+                             PasswordEncoder passwordEncoder,
+                             UserImportHashingExecutor hashingExecutor,
+                             PlatformTransactionManager transactionManager) {
+        this.userJdbcRepository = userJdbcRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.hashingExecutor = hashingExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Imports users, skipping emails that are already registered or repeated in the request.
+     *
+     * @param registrations The users to register
+     * @return The number of users created and the emails skipped
+     */
+    public UserImportResultDTO importUsers(List<RegisterUserDTO> registrations) {
+        // The first registration of an email wins
+        Map<String, RegisterUserDTO> byEmail = new LinkedHashMap<>();
+        List<String> skippedEmails = new ArrayList<>();
+        for (RegisterUserDTO registration : registrations) {
+            if (byEmail.putIfAbsent(registration.email(), registration) != null) {
+                skippedEmails.add(registration.email());
+            }
+        }
+
+        List<UserJdbcRepository.NewUser> users = hashPasswords(byEmail.values());
+        Set<String> inserted = transactionTemplate.execute(status -> userJdbcRepository.insertIgnoringExisting(users));
+
+        for (UserJdbcRepository.NewUser user : users) {
+            if (!inserted.contains(user.email())) {
+                skippedEmails.add(user.email());
+            }
+        }
+
+        logger.info("Imported {} of {} users", inserted.size(), registrations.size());
+        return new UserImportResultDTO(registrations.size(), inserted.size(), skippedEmails);
+    }
+
+    private List<UserJdbcRepository.NewUser> hashPasswords(Iterable<RegisterUserDTO> registrations) {
+        List<Future<UserJdbcRepository.NewUser>> hashed = new ArrayList<>();
+        try {
+            for (RegisterUserDTO registration : registrations) {
+                hashed.add(hashingExecutor.submit(() -> new UserJdbcRepository.NewUser(
+                        UUID.randomUUID().toString(),
+                        registration.email(),
+                        passwordEncoder.encode(registration.password()),
+                        registration.firstName(),
+                        registration.lastName())));
+            }
+
+            List<UserJdbcRepository.NewUser> users = new ArrayList<>(hashed.size());
+            for (Future<UserJdbcRepository.NewUser> user : hashed) {
+                users.add(user.get());
+            }
+            return users;
+        } catch (InterruptedException e) {
+            hashed.forEach(user -> user.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing imported passwords", e);
+        } catch (ExecutionException e) {
+            hashed.forEach(user -> user.cancel(true));
+            throw new IllegalStateException("Hashing imported passwords failed", e.getCause());
+        }
+    }
+}
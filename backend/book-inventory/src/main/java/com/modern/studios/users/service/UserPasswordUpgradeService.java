@@ -0,0 +1,45 @@
+package com.modern.studios.users.service;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.modern.studios.users.entity.User;
+import com.modern.studios.users.repository.UserRepository;
+
+/**
+ * Stores a re-hashed password after a successful login when the stored hash was
+ * created with an outdated algorithm or cost. Called by the authentication provider.
+ */
+@Service
+public class UserPasswordUpgradeService implements UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+    private final UserCacheInvalidator userCacheInvalidator;
+
+    public UserPasswordUpgradeService(UserRepository userRepository, UserCacheInvalidator userCacheInvalidator) {
+        this.userRepository = userRepository;
+        this.userCacheInvalidator = userCacheInvalidator;
+    }
+
+    /**
+     * Replaces the stored hash of the user.
+     *
+     * @param userDetails     The authenticated user
+     * @param newPasswordHash The password re-encoded with the current encoder
+     * @return The updated user
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPasswordHash) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
+        user.setPassword(newPasswordHash);
+        User savedUser = userRepository.save(user);
+        userCacheInvalidator.invalidateAfterCommit(savedUser);
+        return savedUser;
+    }
+}
@@ -0,0 +1,66 @@
+package com.modern.studios.users.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, TTL-evicting cache of authenticated principals keyed by email.
+ * Lets the authentication filter resolve the user of a token without a
+ * database round trip on every request.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<String, UserDetails> principals;
+    // Bumped by every eviction; a load that overlapped one is returned but not cached
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserPrincipalCache(@Value("${security.principal-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${security.principal-cache.time-to-live:5m}") Duration timeToLive) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    /**
+     * Returns the cached principal for the email, loading it on a miss.
+     *
+     * @param email  The email of the user
+     * @param loader Function that loads the user when it is not cached
+     * @return The principal
+     */
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        UserDetails cached = principals.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Load outside the cache's compute lock: a database call inside a synchronized
+        // map bin would pin the carrier thread when running on virtual threads. The load may
+        // then race an update's evict, so it is only stored if no eviction happened meanwhile;
+        // the check and the store are atomic against evict, which bumps the counter first
+        long evictionsBeforeLoad = evictions.get();
+        UserDetails loaded = loader.apply(email);
+        principals.asMap().compute(email, (key, current) ->
+                evictions.get() == evictionsBeforeLoad ? loaded : current);
+        return loaded;
+    }
+
+    /**
+     * Removes the principal for the email immediately.
+     *
+     * @param email The email of the user
+     */
+    public void evict(String email) {
+        evictions.incrementAndGet();
+        principals.invalidate(email);
+    }
+}
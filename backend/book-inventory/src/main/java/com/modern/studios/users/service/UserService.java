@@ -1,7 +1,7 @@
 package com.modern.studios.users.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import com.modern.studios.users.exception.CannotModifyEmailException;
 import com.modern.studios.users.exception.UserNotFoundException;
@@ -10,42 +10,94 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.modern.studios.users.configuration.SuccessLogSampler;
+import com.modern.studios.users.dto.admin.UserCursor;
 import com.modern.studios.users.dto.admin.UserDetails;
+import com.modern.studios.users.dto.admin.UserPageDTO;
+import com.modern.studios.users.dto.admin.UserSummary;
 import com.modern.studios.users.entity.User;
+import com.modern.studios.users.repository.UserJdbcRepository;
 import com.modern.studios.users.repository.UserRepository;
 
 @Service
 public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final UserRepository userRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final UserCacheInvalidator userCacheInvalidator;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository,
+                       UserJdbcRepository userJdbcRepository,
+                       UserCacheInvalidator userCacheInvalidator) {
         this.userRepository = userRepository;
+        this.userJdbcRepository = userJdbcRepository;
+        this.userCacheInvalidator = userCacheInvalidator;
     }
 
     /**
-     * Retrieves all users from the database
-     * @return List of UserDetails
+     * Retrieves one page of users using keyset pagination on (createdAt, id)
+     * @param cursor - Opaque position returned as nextCursor by the previous page, or null for the first page
+     * @param limit - Maximum number of users to return
+     * @return UserPageDTO with the users and the cursor of the next page, null when there are no more users
+     * @throws UserValidationException if the limit is out of range or the cursor is invalid
      * @throws RuntimeException if database access fails
      */
-    public List<UserDetails> getAllUsers() {
+    public UserPageDTO getUsersPage(String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            logger.warn("Attempt to list users with invalid page size: {}", limit);
+            throw new UserValidationException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
         try {
-            logger.debug("Fetching all users from database");
-            List<UserDetails> users = userRepository.findAll().stream()
-                    .map(UserDetails::new)
-                    .collect(Collectors.toList());
-            logger.info("Successfully retrieved {} users", users.size());
-            return users;
+            logger.debug("Fetching page of {} users after cursor {}", limit, cursor);
+
+            // Fetch one extra row to know whether another page follows
+            List<UserSummary> summaries;
+            if (StringUtils.isBlank(cursor)) {
+                summaries = userRepository.findFirstSummaries(Limit.of(limit + 1));
+            } else {
+                UserCursor position = UserCursor.decode(cursor);
+                summaries = userRepository.findSummariesAfter(position.createdAtTimestamp(), position.id(), Limit.of(limit + 1));
+            }
+
+            boolean hasMore = summaries.size() > limit;
+            List<UserSummary> page = hasMore ? summaries.subList(0, limit) : summaries;
+            List<UserDetails> users = page.stream()
+                    .map(UserSummary::toUserDetails)
+                    .toList();
+            String nextCursor = hasMore ? page.get(page.size() - 1).toCursor().encode() : null;
+
+            logger.debug("Successfully retrieved {} users", users.size());
+            return new UserPageDTO(users, nextCursor);
         } catch (DataAccessException ex) {
-            logger.error("Database error while fetching all users: {}", ex.getMessage(), ex);
+            logger.error("Database error while fetching users: {}", ex.getMessage(), ex);
             throw new RuntimeException("Failed to retrieve users from database", ex);
         }
     }
 
+    /**
+     * Streams all users from a forward-only cursor without materializing them in memory
+     * @param consumer - Receives each user as it is read from the database
+     * @throws RuntimeException if database access fails
+     */
+    @Transactional(readOnly = true)
+    public void streamAllUsers(Consumer<UserDetails> consumer) {
+        try {
+            logger.debug("Streaming all users from database");
+            userJdbcRepository.streamUserDetails(consumer);
+        } catch (DataAccessException ex) {
+            logger.error("Database error while streaming users: {}", ex.getMessage(), ex);
+            throw new RuntimeException("Failed to stream users from database", ex);
+        }
+    }
+
     /**
      * Retrieves a user by email ID
      * @param emailId - The email ID to search for
@@ -68,7 +120,7 @@ public class UserService {
                         return new UserNotFoundException("User not found with email: " + emailId);
                     });
             
-            logger.info("Successfully found user with email: {}", emailId);
+            logger.debug("Successfully found user with email: {}", emailId);
             return userDetails;
             
         } catch (DataAccessException ex) {
@@ -139,13 +191,14 @@ public class UserService {
             }
             
             if (!isUpdated) {
-                logger.info("No changes detected for user: {}", emailId);
+                logger.debug("No changes detected for user: {}", emailId);
                 return new UserDetails(user);
             }
             
             // Save the user and return the updated user details
             User savedUser = userRepository.save(user);
-            logger.info("Successfully updated user: {}", emailId);
+            userCacheInvalidator.invalidateAfterCommit(savedUser);
+            logger.info(SuccessLogSampler.SUCCESS, "Successfully updated user: {}", emailId);
             return new UserDetails(savedUser);
             
         } catch (DataAccessException ex) {
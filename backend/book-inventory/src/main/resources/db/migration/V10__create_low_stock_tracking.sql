@@ -0,0 +1,91 @@
+-- The reorder threshold of a title applies to its NEW stock row: vendors ship new copies,
+-- used copies come from buybacks. It is copied onto the stock row so a crossing can be
+-- detected from the updated row alone, without reading any other row or taking any lock.
+ALTER TABLE textbook_stock ADD COLUMN minimum_threshold INTEGER NOT NULL DEFAULT 0;
+
+UPDATE textbook_stock s
+SET minimum_threshold = t.minimum_threshold
+FROM textbooks t
+WHERE s.isbn = t.isbn AND s.condition = 'NEW' AND t.minimum_threshold <> 0;
+
+-- Stock rows currently below their threshold. Kept as a separate table rather than a
+-- partial index on textbook_stock: a predicate on quantity_on_hand would stop every
+-- sale from being a HOT update.
+CREATE TABLE low_stock_items (
+    isbn VARCHAR(13) NOT NULL,
+    condition VARCHAR(4) NOT NULL,
+    below_since TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (isbn, condition),
+    FOREIGN KEY (isbn, condition) REFERENCES textbook_stock (isbn, condition)
+);
+
+INSERT INTO low_stock_items (isbn, condition)
+SELECT isbn, condition FROM textbook_stock WHERE quantity_on_hand < minimum_threshold;
+
+-- New NEW rows inherit the threshold of their title
+CREATE FUNCTION textbook_stock_inherit_threshold() RETURNS trigger AS $$
+BEGIN
+    IF NEW.condition = 'NEW' THEN
+        SELECT minimum_threshold INTO NEW.minimum_threshold FROM textbooks WHERE isbn = NEW.isbn;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_textbook_stock_inherit_threshold
+    BEFORE INSERT ON textbook_stock
+    FOR EACH ROW EXECUTE FUNCTION textbook_stock_inherit_threshold();
+
+-- Threshold changes on the catalog flow to the NEW stock row, which fires the crossing trigger
+CREATE FUNCTION textbooks_propagate_threshold() RETURNS trigger AS $$
+BEGIN
+    UPDATE textbook_stock SET minimum_threshold = NEW.minimum_threshold
+    WHERE isbn = NEW.isbn AND condition = 'NEW';
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_textbooks_propagate_threshold
+    AFTER UPDATE OF minimum_threshold ON textbooks
+    FOR EACH ROW WHEN (OLD.minimum_threshold IS DISTINCT FROM NEW.minimum_threshold)
+    EXECUTE FUNCTION textbooks_propagate_threshold();
+
+-- Records a crossing in low_stock_items and publishes it through the outbox in the same
+-- transaction as the stock change
+CREATE FUNCTION textbook_stock_threshold_crossed() RETURNS trigger AS $$
+DECLARE
+    event_type VARCHAR(20);
+BEGIN
+    IF NEW.quantity_on_hand < NEW.minimum_threshold THEN
+        event_type := 'BELOW_THRESHOLD';
+        INSERT INTO low_stock_items (isbn, condition) VALUES (NEW.isbn, NEW.condition)
+        ON CONFLICT (isbn, condition) DO NOTHING;
+    ELSE
+        event_type := 'RESTORED';
+        DELETE FROM low_stock_items WHERE isbn = NEW.isbn AND condition = NEW.condition;
+    END IF;
+
+    INSERT INTO inventory_outbox (isbn, event_type, payload)
+    VALUES (NEW.isbn, event_type, jsonb_build_object(
+        'eventId', gen_random_uuid(),
+        'type', event_type,
+        'isbn', NEW.isbn,
+        'condition', NEW.condition,
+        'quantityOnHand', NEW.quantity_on_hand,
+        'minimumThreshold', NEW.minimum_threshold,
+        'occurredAt', to_char(CURRENT_TIMESTAMP AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS"Z"')));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The WHEN clauses keep the per-sale cost to a comparison: the function only runs on a crossing
+CREATE TRIGGER trg_textbook_stock_threshold_crossed_update
+    AFTER UPDATE OF quantity_on_hand, minimum_threshold ON textbook_stock
+    FOR EACH ROW
+    WHEN ((OLD.quantity_on_hand < OLD.minimum_threshold) IS DISTINCT FROM (NEW.quantity_on_hand < NEW.minimum_threshold))
+    EXECUTE FUNCTION textbook_stock_threshold_crossed();
+
+CREATE TRIGGER trg_textbook_stock_threshold_crossed_insert
+    AFTER INSERT ON textbook_stock
+    FOR EACH ROW WHEN (NEW.quantity_on_hand < NEW.minimum_threshold)
+    EXECUTE FUNCTION textbook_stock_threshold_crossed();
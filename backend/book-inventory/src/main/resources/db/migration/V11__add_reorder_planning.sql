@@ -0,0 +1,4 @@
+ALTER TABLE textbooks ADD COLUMN preferred_vendor_id VARCHAR(50) REFERENCES vendors (id);
+
+-- Open quantities on order are summed per title when sizing reorders
+CREATE INDEX idx_purchase_order_lines_isbn ON purchase_order_lines (isbn);
@@ -0,0 +1,20 @@
+-- Store-wide pricing policy. Rates are stored in basis points (2500 = 25%) so prices
+-- are computed with integer arithmetic.
+CREATE TABLE pricing_policy (
+    id SMALLINT NOT NULL PRIMARY KEY DEFAULT 1,
+    markup_basis_points INTEGER NOT NULL,
+    depreciation_basis_points INTEGER NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_pricing_policy_single_row CHECK (id = 1),
+    CONSTRAINT chk_pricing_policy_markup CHECK (markup_basis_points >= 0),
+    CONSTRAINT chk_pricing_policy_depreciation CHECK (depreciation_basis_points BETWEEN 0 AND 10000)
+);
+
+INSERT INTO pricing_policy (markup_basis_points, depreciation_basis_points) VALUES (2500, 2500);
+
+-- Set when the cost or the policy behind a stored price changes, cleared by repricing.
+-- Sales never touch it, so they stay HOT updates despite the partial index.
+ALTER TABLE textbook_stock ADD COLUMN price_stale BOOLEAN NOT NULL DEFAULT TRUE;
+
+CREATE INDEX idx_textbook_stock_price_stale ON textbook_stock (isbn)
+    WHERE price_stale AND condition = 'NEW' AND average_cost > 0;
@@ -0,0 +1,45 @@
+-- Sales history is range-partitioned by month on sold_at (UTC boundaries). Lookups bounded
+-- by sold_at, such as returns inside the return window, only touch the recent partitions.
+-- Partitions are created ahead and detached into the archive schema by the application.
+CREATE SCHEMA IF NOT EXISTS book_inventory_archive;
+
+ALTER TABLE sales_transactions RENAME TO sales_transactions_legacy;
+ALTER INDEX idx_sales_transactions_isbn_sold_at RENAME TO idx_sales_transactions_legacy_isbn_sold_at;
+
+CREATE TABLE sales_transactions (
+    id UUID NOT NULL,
+    isbn VARCHAR(13) NOT NULL,
+    condition VARCHAR(4) NOT NULL,
+    quantity INTEGER NOT NULL,
+    unit_price NUMERIC(12, 2) NOT NULL,
+    total_amount NUMERIC(12, 2) NOT NULL,
+    sold_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    quantity_returned INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (id, sold_at),
+    CONSTRAINT chk_sales_transactions_quantity CHECK (quantity > 0),
+    CONSTRAINT chk_sales_transactions_returned CHECK (quantity_returned >= 0 AND quantity_returned <= quantity)
+) PARTITION BY RANGE (sold_at);
+
+CREATE INDEX idx_sales_transactions_isbn_sold_at ON sales_transactions (isbn, sold_at);
+
+DO $$
+DECLARE
+    month_start DATE := COALESCE(
+        (SELECT date_trunc('month', MIN(sold_at) AT TIME ZONE 'UTC')::date FROM sales_transactions_legacy),
+        date_trunc('month', CURRENT_TIMESTAMP AT TIME ZONE 'UTC')::date);
+    last_month DATE := (date_trunc('month', CURRENT_TIMESTAMP AT TIME ZONE 'UTC') + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF sales_transactions FOR VALUES FROM (%L) TO (%L)',
+            'sales_transactions_p' || to_char(month_start, 'YYYYMM'),
+            month_start::timestamp AT TIME ZONE 'UTC',
+            (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC');
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO sales_transactions (id, isbn, condition, quantity, unit_price, total_amount, sold_at, quantity_returned)
+SELECT id, isbn, condition, quantity, unit_price, total_amount, sold_at, quantity_returned
+FROM sales_transactions_legacy;
+
+DROP TABLE sales_transactions_legacy;
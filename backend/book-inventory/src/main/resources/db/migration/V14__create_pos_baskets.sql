@@ -0,0 +1,10 @@
+-- One row per register basket, keyed by the client idempotency key. The stored response is
+-- returned verbatim when the register retries the same submission.
+CREATE TABLE pos_baskets (
+    idempotency_key VARCHAR(100) NOT NULL PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    response JSONB,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_pos_baskets_created_at ON pos_baskets (created_at);
@@ -0,0 +1,7 @@
+-- Course the title is adopted for (e.g. CHEM 101), searchable by store staff
+ALTER TABLE textbooks ADD COLUMN course_code VARCHAR(50);
+
+CREATE INDEX idx_textbooks_course_code_trgm ON textbooks USING gin (course_code gin_trgm_ops);
+
+-- Lets each instance's catalog search index pick up changes made by other instances
+CREATE INDEX idx_textbooks_updated_at ON textbooks (updated_at);
@@ -0,0 +1,10 @@
+-- Single-row lease naming the replica that drains the inventory outbox. The relay holds it
+-- while awaiting Kafka acknowledgements instead of a transaction, so no connection or lock
+-- is held during the sends; a crashed holder is replaced once the lease expires
+CREATE TABLE outbox_relay_lease (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    holder VARCHAR(64),
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO outbox_relay_lease (id, holder, expires_at) VALUES (1, NULL, '-infinity');
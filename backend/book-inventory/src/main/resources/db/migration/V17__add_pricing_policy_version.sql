@@ -0,0 +1,3 @@
+-- Bumped by every policy change. Repricing only clears price_stale when the policy it priced
+-- with is still current, so a run overlapping a policy change leaves its titles stale
+ALTER TABLE pricing_policy ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- One row per ASN line received into stock. A corrected ASN file is a new upload, and so a
+-- new batch job instance; the lines it repeats from an earlier upload are found here and
+-- not received a second time
+CREATE TABLE shipment_received_lines (
+    asn_id VARCHAR(255) NOT NULL,
+    line_number INTEGER NOT NULL,
+    order_id VARCHAR(50) NOT NULL,
+    isbn VARCHAR(13) NOT NULL,
+    received_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (asn_id, line_number, order_id, isbn)
+);
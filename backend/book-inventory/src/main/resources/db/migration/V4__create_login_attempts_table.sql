@@ -0,0 +1,10 @@
+CREATE TABLE login_attempts (
+    attempt_key VARCHAR(320) NOT NULL PRIMARY KEY,
+    window_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    current_count INTEGER NOT NULL DEFAULT 0,
+    previous_count INTEGER NOT NULL DEFAULT 0,
+    lockouts INTEGER NOT NULL DEFAULT 0,
+    locked_until TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_login_attempts_locked_until ON login_attempts (locked_until);
@@ -0,0 +1,19 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE textbooks (
+    isbn VARCHAR(13) NOT NULL PRIMARY KEY,
+    title VARCHAR(500) NOT NULL,
+    author VARCHAR(255) NOT NULL,
+    publisher VARCHAR(255) NOT NULL,
+    edition VARCHAR(50),
+    minimum_threshold INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_textbooks_isbn13 CHECK (isbn ~ '^97[89][0-9]{10}$'),
+    CONSTRAINT chk_textbooks_minimum_threshold CHECK (minimum_threshold >= 0)
+);
+
+-- Trigram indexes serve ILIKE '%...%' searches on the catalog columns
+CREATE INDEX idx_textbooks_title_trgm ON textbooks USING gin (title gin_trgm_ops);
+CREATE INDEX idx_textbooks_author_trgm ON textbooks USING gin (author gin_trgm_ops);
+CREATE INDEX idx_textbooks_publisher_trgm ON textbooks USING gin (publisher gin_trgm_ops);
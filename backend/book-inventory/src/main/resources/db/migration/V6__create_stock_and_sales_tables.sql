@@ -0,0 +1,29 @@
+-- One row per (isbn, condition). fillfactor leaves room for HOT updates of the
+-- frequently decremented quantity column
+CREATE TABLE textbook_stock (
+    isbn VARCHAR(13) NOT NULL REFERENCES textbooks (isbn),
+    condition VARCHAR(4) NOT NULL,
+    quantity_on_hand INTEGER NOT NULL DEFAULT 0,
+    retail_price NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (isbn, condition),
+    CONSTRAINT chk_textbook_stock_condition CHECK (condition IN ('NEW', 'USED')),
+    CONSTRAINT chk_textbook_stock_quantity CHECK (quantity_on_hand >= 0)
+) WITH (fillfactor = 80);
+
+INSERT INTO textbook_stock (isbn, condition)
+SELECT isbn, conditions.condition
+FROM textbooks CROSS JOIN (VALUES ('NEW'), ('USED')) AS conditions (condition);
+
+CREATE TABLE sales_transactions (
+    id UUID NOT NULL PRIMARY KEY,
+    isbn VARCHAR(13) NOT NULL,
+    condition VARCHAR(4) NOT NULL,
+    quantity INTEGER NOT NULL,
+    unit_price NUMERIC(12, 2) NOT NULL,
+    total_amount NUMERIC(12, 2) NOT NULL,
+    sold_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_sales_transactions_quantity CHECK (quantity > 0)
+);
+
+CREATE INDEX idx_sales_transactions_isbn_sold_at ON sales_transactions (isbn, sold_at);
@@ -0,0 +1,31 @@
+CREATE TABLE vendors (
+    id VARCHAR(50) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    lead_time_days INTEGER NOT NULL DEFAULT 7,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE purchase_orders (
+    id VARCHAR(50) NOT NULL PRIMARY KEY,
+    vendor_id VARCHAR(50) NOT NULL REFERENCES vendors (id),
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING',
+    expected_arrival DATE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_purchase_orders_status CHECK (status IN ('PENDING', 'PARTIAL', 'CLOSED'))
+);
+
+-- Only open orders are ever scanned when closing received orders
+CREATE INDEX idx_purchase_orders_open ON purchase_orders (id) WHERE status IN ('PENDING', 'PARTIAL');
+
+CREATE TABLE purchase_order_lines (
+    order_id VARCHAR(50) NOT NULL REFERENCES purchase_orders (id),
+    isbn VARCHAR(13) NOT NULL REFERENCES textbooks (isbn),
+    quantity_ordered INTEGER NOT NULL,
+    quantity_received INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (order_id, isbn),
+    CONSTRAINT chk_purchase_order_lines_quantity CHECK (quantity_ordered > 0 AND quantity_received >= 0)
+);
+
+-- Weighted-average unit cost of the copies on hand
+ALTER TABLE textbook_stock ADD COLUMN average_cost NUMERIC(12, 4) NOT NULL DEFAULT 0;
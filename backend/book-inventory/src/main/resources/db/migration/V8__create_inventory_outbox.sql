@@ -0,0 +1,14 @@
+-- Returns are booked against the original sale so a sale can never be refunded twice
+ALTER TABLE sales_transactions ADD COLUMN quantity_returned INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE sales_transactions ADD CONSTRAINT chk_sales_transactions_returned
+    CHECK (quantity_returned >= 0 AND quantity_returned <= quantity);
+
+-- Inventory change events written in the same transaction as the stock mutation,
+-- drained in id order by the outbox relay and deleted once Kafka acknowledged them
+CREATE TABLE inventory_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    isbn VARCHAR(13) NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
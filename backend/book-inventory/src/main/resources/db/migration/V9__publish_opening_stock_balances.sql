@@ -0,0 +1,16 @@
+-- Stock that existed before inventory events were published: one opening balance event per
+-- non-empty stock row, so consumers folding the deltas start from the stored quantities
+INSERT INTO inventory_outbox (isbn, event_type, payload)
+SELECT isbn,
+       'OPENING_BALANCE',
+       jsonb_build_object(
+           'eventId', gen_random_uuid(),
+           'type', 'OPENING_BALANCE',
+           'isbn', isbn,
+           'condition', condition,
+           'quantityDelta', quantity_on_hand,
+           'reference', NULL,
+           'occurredAt', to_char(CURRENT_TIMESTAMP AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS"Z"'))
+FROM textbook_stock
+WHERE quantity_on_hand <> 0
+ORDER BY isbn, condition;
@@ -0,0 +1,56 @@
+package com.modern.studios.inventory.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.infrastructure.item.Chunk;
+
+import com.modern.studios.inventory.entity.StockCondition;
+import com.modern.studios.inventory.repository.OutboxRepository;
+import com.modern.studios.inventory.repository.PurchaseOrderRepository;
+import com.modern.studios.inventory.repository.ShipmentLedgerRepository;
+import com.modern.studios.inventory.repository.StockRepository;
+
+/**
+ * A corrected upload of an ASN receives only the lines the ledger has not recorded yet.
+ */
+class ShipmentReceiptWriterTest {
+
+    private static final String ASN_ID = "ASN-1001.csv";
+    private static final String ISBN = "9780306406157";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void linesAlreadyReceivedWithTheAsnAreNotAppliedAgain() {
+        StockRepository stockRepository = mock(StockRepository.class);
+        PurchaseOrderRepository purchaseOrderRepository = mock(PurchaseOrderRepository.class);
+        ShipmentLedgerRepository shipmentLedgerRepository = mock(ShipmentLedgerRepository.class);
+        ShipmentRejections rejections = mock(ShipmentRejections.class);
+        ShipmentReceiptWriter writer = new ShipmentReceiptWriter(stockRepository, purchaseOrderRepository,
+                mock(OutboxRepository.class), shipmentLedgerRepository, rejections, ASN_ID);
+
+        AsnLine received = new AsnLine("PO-1", ISBN, StockCondition.NEW, 5, BigDecimal.TEN, 2);
+        AsnLine corrected = new AsnLine("PO-1", ISBN, StockCondition.NEW, 3, BigDecimal.TEN, 3);
+        when(shipmentLedgerRepository.claimLines(eq(ASN_ID), anyList())).thenReturn(Set.of(3));
+
+        writer.write(new Chunk<>(received, corrected));
+
+        ArgumentCaptor<Collection<StockReceipt>> receipts = ArgumentCaptor.forClass(Collection.class);
+        verify(stockRepository).receive(receipts.capture());
+        assertEquals(List.of(new StockReceipt(ISBN, StockCondition.NEW, 3, new BigDecimal("30"))), List.copyOf(receipts.getValue()));
+        verify(purchaseOrderRepository).recordReceived(Map.of("PO-1:" + ISBN, 3));
+        verify(rejections).alreadyReceived(received);
+    }
+}
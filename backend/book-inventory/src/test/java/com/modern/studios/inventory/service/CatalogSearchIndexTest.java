@@ -0,0 +1,63 @@
+package com.modern.studios.inventory.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.modern.studios.inventory.dto.TextbookDTO;
+
+class CatalogSearchIndexTest {
+
+    private static final TextbookDTO ORGANIC = new TextbookDTO(
+            "9780000000001", "Organic Chemistry", "Clayden", "Oxford University Press", "2nd", "CHEM 201", 0);
+    private static final TextbookDTO BIOCHEMISTRY = new TextbookDTO(
+            "9780000000002", "Biochemistry", "Berg", "Freeman", "9th", "BIO 310", 0);
+    private static final TextbookDTO CALCULUS = new TextbookDTO(
+            "9780000000003", "Calculus", "Stewart", "Cengage", "8th", null, 0);
+
+    private CatalogSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CatalogSearchIndex();
+        index.putAll(List.of(ORGANIC, BIOCHEMISTRY, CALCULUS));
+    }
+
+    @Test
+    void matchesPrefixesOfEveryQueryWord() {
+        assertEquals(List.of(ORGANIC), index.search("org chem", 10));
+        assertEquals(List.of(CALCULUS), index.search("stew", 10));
+    }
+
+    @Test
+    void matchesFragmentsInsideWordsOrderedByTitle() {
+        assertEquals(List.of(BIOCHEMISTRY, ORGANIC), index.search("chemist", 10));
+    }
+
+    @Test
+    void matchesCourseCodesWithOrWithoutSpacesAndIsbnPrefixes() {
+        assertEquals(List.of(ORGANIC), index.search("chem 201", 10));
+        assertEquals(List.of(BIOCHEMISTRY), index.search("bio310", 10));
+        assertEquals(List.of(CALCULUS), index.search("9780000000003", 10));
+    }
+
+    @Test
+    void replacingATextbookDropsItsPreviousTerms() {
+        TextbookDTO moved = new TextbookDTO(
+                ORGANIC.isbn(), ORGANIC.title(), ORGANIC.author(), ORGANIC.publisher(), ORGANIC.edition(), "CHEM 301", 0);
+        index.put(moved);
+
+        assertTrue(index.search("chem 201", 10).isEmpty());
+        assertEquals(List.of(moved), index.search("chem 301", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void appliesTheLimitAfterOrdering() {
+        assertEquals(List.of(BIOCHEMISTRY), index.search("chemistry", 1));
+    }
+}
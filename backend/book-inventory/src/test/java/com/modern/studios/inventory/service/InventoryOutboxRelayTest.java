@@ -0,0 +1,102 @@
+package com.modern.studios.inventory.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+
+import com.modern.studios.inventory.event.OutboxMessage;
+import com.modern.studios.inventory.repository.OutboxRepository;
+
+/**
+ * Runs the relay against an in-process {@link MockProducer} instead of a broker.
+ */
+class InventoryOutboxRelayTest {
+
+    private static final String TOPIC = "inventory-changes";
+    private static final String LOW_STOCK_TOPIC = "inventory-low-stock";
+
+    private OutboxRepository outboxRepository;
+    private MockProducer<String, String> producer;
+    private InventoryOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxRepository.class);
+        producer = new MockProducer<>(true, null, new StringSerializer(), new StringSerializer());
+        KafkaTemplate<String, String> kafkaTemplate = new KafkaTemplate<>(new MockProducerFactory<>((transactional, txId) -> producer, null));
+        relay = new InventoryOutboxRelay(outboxRepository, kafkaTemplate,
+                TOPIC, LOW_STOCK_TOPIC, 500, Duration.ofSeconds(1), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void publishesPendingEventsInOrderKeyedByIsbn() {
+        when(outboxRepository.tryAcquireRelayLease(anyString(), any())).thenReturn(true);
+        when(outboxRepository.findPending(anyInt())).thenReturn(List.of(
+                new OutboxMessage(1, "SALE", "9780306406157", "{\"type\":\"SALE\"}"),
+                new OutboxMessage(2, "RECEIPT", "9780131103627", "{\"type\":\"RECEIPT\"}"),
+                new OutboxMessage(3, "RETURN", "9780306406157", "{\"type\":\"RETURN\"}")));
+
+        assertEquals(3, relay.publishBatch());
+
+        List<ProducerRecord<String, String>> sent = producer.history();
+        assertEquals(List.of("9780306406157", "9780131103627", "9780306406157"),
+                sent.stream().map(ProducerRecord::key).toList());
+        assertEquals(List.of("{\"type\":\"SALE\"}", "{\"type\":\"RECEIPT\"}", "{\"type\":\"RETURN\"}"),
+                sent.stream().map(ProducerRecord::value).toList());
+        assertTrue(sent.stream().allMatch(record -> TOPIC.equals(record.topic())));
+        verify(outboxRepository).delete(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void routesThresholdCrossingsToTheLowStockTopic() {
+        when(outboxRepository.tryAcquireRelayLease(anyString(), any())).thenReturn(true);
+        when(outboxRepository.findPending(anyInt())).thenReturn(List.of(
+                new OutboxMessage(1, "SALE", "9780306406157", "{\"type\":\"SALE\"}"),
+                new OutboxMessage(2, "BELOW_THRESHOLD", "9780306406157", "{\"type\":\"BELOW_THRESHOLD\"}"),
+                new OutboxMessage(3, "RESTORED", "9780306406157", "{\"type\":\"RESTORED\"}")));
+
+        assertEquals(3, relay.publishBatch());
+
+        assertEquals(List.of(TOPIC, LOW_STOCK_TOPIC, LOW_STOCK_TOPIC),
+                producer.history().stream().map(ProducerRecord::topic).toList());
+    }
+
+    @Test
+    void skipsWhenAnotherRelayHoldsTheLease() {
+        when(outboxRepository.tryAcquireRelayLease(anyString(), any())).thenReturn(false);
+
+        assertEquals(0, relay.publishBatch());
+
+        assertTrue(producer.history().isEmpty());
+        verify(outboxRepository, never()).findPending(anyInt());
+        verify(outboxRepository, never()).delete(any());
+    }
+
+    @Test
+    void doesNothingWhenOutboxIsEmpty() {
+        when(outboxRepository.tryAcquireRelayLease(anyString(), any())).thenReturn(true);
+        when(outboxRepository.findPending(anyInt())).thenReturn(List.of());
+
+        assertEquals(0, relay.publishBatch());
+
+        assertTrue(producer.history().isEmpty());
+        verify(outboxRepository, never()).delete(any());
+    }
+}
@@ -0,0 +1,23 @@
+package com.modern.studios.inventory.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.modern.studios.inventory.exception.InvalidIsbnException;
+
+class IsbnTest {
+
+    @Test
+    void normalizesIsbn10AndIsbn13ToTheSameIsbn13() {
+        assertEquals("9780306406157", Isbn.normalize("0-306-40615-2"));
+        assertEquals("9780306406157", Isbn.normalize("978-0-306-40615-7"));
+    }
+
+    @Test
+    void rejectsNonAsciiDigits() {
+        // ARABIC-INDIC DIGIT ZERO is 1584 past '0', so it weighs like the 4 it replaces in the checksum
+        assertThrows(InvalidIsbnException.class, () -> Isbn.normalize("9780306\u066006157"));
+    }
+}
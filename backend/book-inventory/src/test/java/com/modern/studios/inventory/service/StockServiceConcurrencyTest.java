@@ -0,0 +1,123 @@
+package com.modern.studios.inventory.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.modern.studios.inventory.dto.NewTextbookDTO;
+import com.modern.studios.inventory.dto.SaleRequestDTO;
+import com.modern.studios.inventory.entity.StockCondition;
+import com.modern.studios.inventory.exception.InsufficientStockException;
+
+/**
+ * Hammers one (isbn, condition) stock row from an increasing number of register threads.
+ * Every round must sell exactly the stock that was on hand, never more, and record one
+ * sales transaction per successful sale. The stock is set directly, so the outbox relay and
+ * the Kafka stock view are off, and every row the test wrote is deleted afterwards.
+ */
+@SpringBootTest(properties = { "inventory.outbox.relay.enabled=false", "inventory.stock-view.enabled=false" })
+class StockServiceConcurrencyTest {
+
+    private static final int STOCK_PER_ROUND = 2000;
+    private static final int[] REGISTER_THREADS = { 1, 2, 4, 8, 16 };
+
+    @Autowired
+    private TextbookCatalogService textbookCatalogService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String isbn;
+
+    @BeforeEach
+    void addTextbook() {
+        isbn = randomIsbn13();
+        textbookCatalogService.addNewTextbookEntry(
+                new NewTextbookDTO(isbn, "Concurrency Test Title", "Test Author", "Test Publisher", "1st", null, 0));
+        jdbcTemplate.update("UPDATE textbook_stock SET retail_price = 10.00 WHERE isbn = ?", isbn);
+    }
+
+    @AfterEach
+    void deleteTextbook() {
+        jdbcTemplate.update("DELETE FROM sales_transactions WHERE isbn = ?", isbn);
+        jdbcTemplate.update("DELETE FROM inventory_outbox WHERE isbn = ?", isbn);
+        jdbcTemplate.update("DELETE FROM low_stock_items WHERE isbn = ?", isbn);
+        jdbcTemplate.update("DELETE FROM textbook_stock WHERE isbn = ?", isbn);
+        jdbcTemplate.update("DELETE FROM textbooks WHERE isbn = ?", isbn);
+    }
+
+    @Test
+    void concurrentSalesNeverOversell() throws Exception {
+        for (int threads : REGISTER_THREADS) {
+            jdbcTemplate.update("UPDATE textbook_stock SET quantity_on_hand = ? WHERE isbn = ? AND condition = 'NEW'",
+                    STOCK_PER_ROUND, isbn);
+            int salesBefore = countSales();
+
+            int sold = sellUntilSoldOut(threads);
+
+            assertEquals(STOCK_PER_ROUND, sold, "copies sold with " + threads + " threads");
+            assertEquals(0, stockService.getInventoryLevel(isbn, StockCondition.NEW).quantityOnHand());
+            assertEquals(STOCK_PER_ROUND, countSales() - salesBefore, "sales transactions with " + threads + " threads");
+        }
+    }
+
+    private int sellUntilSoldOut(int threads) throws Exception {
+        ExecutorService registers = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(registers.submit(() -> {
+                    int sold = 0;
+                    while (true) {
+                        try {
+                            stockService.processSale(new SaleRequestDTO(isbn, StockCondition.NEW, 1));
+                            sold++;
+                        } catch (InsufficientStockException e) {
+                            return sold;
+                        }
+                    }
+                }));
+            }
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+            return total;
+        } finally {
+            registers.shutdownNow();
+        }
+    }
+
+    private int countSales() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sales_transactions WHERE isbn = ?", Integer.class, isbn);
+    }
+
+    private static String randomIsbn13() {
+        StringBuilder isbn = new StringBuilder("979");
+        for (int i = 0; i < 9; i++) {
+            isbn.append(ThreadLocalRandom.current().nextInt(10));
+        }
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int digit = isbn.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return isbn.append((10 - sum % 10) % 10).toString();
+    }
+}
@@ -0,0 +1,141 @@
+package com.modern.studios.inventory.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import com.modern.studios.inventory.entity.StockCondition;
+import com.modern.studios.inventory.event.InventoryChangeEvent;
+import com.modern.studios.inventory.event.InventoryChangeType;
+
+class StockLevelTopologyTest {
+
+    private static final String TOPIC = "inventory-changes";
+    private static final String[] ISBNS = { "9780306406157", "9780131103627", "9781492078005" };
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @TempDir
+    Path stateDir;
+
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, String> input;
+    private KeyValueStore<String, StockLevels> store;
+
+    @BeforeEach
+    void setUp() {
+        StreamsBuilder builder = new StreamsBuilder();
+        StockLevelTopology.build(builder, TOPIC, jsonMapper, Duration.ofHours(1));
+
+        Properties config = new Properties();
+        config.put(StreamsConfig.APPLICATION_ID_CONFIG, "stock-level-topology-test");
+        config.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        config.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+
+        driver = new TopologyTestDriver(builder.build(), config);
+        input = driver.createInputTopic(TOPIC, new StringSerializer(), new StringSerializer());
+        store = driver.getKeyValueStore(StockLevelTopology.STORE_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+    }
+
+    @Test
+    void foldsReceiptsSalesAndReturnsPerCondition() {
+        send(InventoryChangeType.OPENING_BALANCE, ISBNS[0], StockCondition.NEW, 10);
+        send(InventoryChangeType.RECEIPT, ISBNS[0], StockCondition.USED, 4);
+        send(InventoryChangeType.SALE, ISBNS[0], StockCondition.NEW, -3);
+        send(InventoryChangeType.RETURN, ISBNS[0], StockCondition.NEW, 1);
+        send(InventoryChangeType.SALE, ISBNS[0], StockCondition.USED, -2);
+
+        StockLevels levels = store.get(ISBNS[0]);
+        assertEquals(8, levels.newOnHand());
+        assertEquals(2, levels.usedOnHand());
+        assertEquals(10, levels.onHand(null));
+    }
+
+    @Test
+    void viewIsExactForInterleavedSalesAndReturns() {
+        Random random = new Random(42);
+        Map<String, int[]> expected = new HashMap<>();
+
+        for (String isbn : ISBNS) {
+            for (StockCondition condition : StockCondition.values()) {
+                send(InventoryChangeType.RECEIPT, isbn, condition, 1_000);
+                expected.computeIfAbsent(isbn, key -> new int[2])[condition.ordinal()] += 1_000;
+            }
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            String isbn = ISBNS[random.nextInt(ISBNS.length)];
+            StockCondition condition = StockCondition.values()[random.nextInt(2)];
+            int quantity = 1 + random.nextInt(3);
+            int delta = random.nextBoolean() ? -quantity : quantity;
+            send(delta < 0 ? InventoryChangeType.SALE : InventoryChangeType.RETURN, isbn, condition, delta);
+            expected.get(isbn)[condition.ordinal()] += delta;
+        }
+
+        for (String isbn : ISBNS) {
+            StockLevels levels = store.get(isbn);
+            assertEquals(expected.get(isbn)[StockCondition.NEW.ordinal()], levels.newOnHand(), isbn + " NEW");
+            assertEquals(expected.get(isbn)[StockCondition.USED.ordinal()], levels.usedOnHand(), isbn + " USED");
+        }
+    }
+
+    @Test
+    void conversionMovesCopiesBetweenConditions() {
+        send(InventoryChangeType.RECEIPT, ISBNS[1], StockCondition.NEW, 5);
+        send(InventoryChangeType.CONVERSION, ISBNS[1], StockCondition.NEW, -2);
+        send(InventoryChangeType.CONVERSION, ISBNS[1], StockCondition.USED, 2);
+
+        StockLevels levels = store.get(ISBNS[1]);
+        assertEquals(3, levels.newOnHand());
+        assertEquals(2, levels.usedOnHand());
+    }
+
+    @Test
+    void resentEventMovesQuantityOnce() {
+        send(InventoryChangeType.RECEIPT, ISBNS[0], StockCondition.NEW, 10);
+        String sale = jsonMapper.writeValueAsString(
+                InventoryChangeEvent.of(InventoryChangeType.SALE, ISBNS[0], StockCondition.NEW, -3, null));
+
+        input.pipeInput(ISBNS[0], sale);
+        // The relay re-sends the batch after a send timeout
+        input.pipeInput(ISBNS[0], sale);
+
+        assertEquals(7, store.get(ISBNS[0]).newOnHand());
+    }
+
+    @Test
+    void skipsUnreadablePayloads() {
+        input.pipeInput(ISBNS[2], "not json");
+        send(InventoryChangeType.RECEIPT, ISBNS[2], StockCondition.NEW, 7);
+
+        assertEquals(7, store.get(ISBNS[2]).newOnHand());
+        assertNull(store.get(ISBNS[0]));
+    }
+
+    private void send(InventoryChangeType type, String isbn, StockCondition condition, int delta) {
+        input.pipeInput(isbn, jsonMapper.writeValueAsString(InventoryChangeEvent.of(type, isbn, condition, delta, null)));
+    }
+}
@@ -0,0 +1,52 @@
+package com.modern.studios.users.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.infrastructure.item.validator.ValidationException;
+
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+
+/**
+ * An imported row passes or fails on the same constraints as a signup request, and a failing
+ * row is rejected with a skippable exception listing every violated constraint.
+ */
+class RegistrationValidatorTest {
+
+    private ValidatorFactory validatorFactory;
+    private RegistrationValidator registrationValidator;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        registrationValidator = new RegistrationValidator(validatorFactory.getValidator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void validRowIsPassedOn() {
+        RegisterUserDTO registration = new RegisterUserDTO("reader@example.com", "secret", "Ada", "Reader");
+
+        assertSame(registration, registrationValidator.process(registration));
+    }
+
+    @Test
+    void invalidRowIsRejectedWithEveryViolation() {
+        RegisterUserDTO registration = new RegisterUserDTO("not-an-email", "secret", "A", "Reader");
+
+        ValidationException ex = assertThrows(ValidationException.class, () -> registrationValidator.process(registration));
+
+        assertEquals("The email address is invalid. The length of First name must be between 2 and 100 characters.",
+                ex.getMessage());
+    }
+}
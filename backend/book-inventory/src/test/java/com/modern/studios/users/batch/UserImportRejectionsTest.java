@@ -0,0 +1,57 @@
+package com.modern.studios.users.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.validator.ValidationException;
+
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+
+/**
+ * A restarted import keeps the rejections of committed chunks and drops those written by a
+ * chunk that rolled back.
+ */
+class UserImportRejectionsTest {
+
+    @TempDir
+    private Path workDirectory;
+
+    @Test
+    void restartDropsRejectionsOfUncommittedChunk() throws IOException {
+        Path inputFile = workDirectory.resolve("users.csv");
+        ExecutionContext committed = new ExecutionContext();
+
+        UserImportRejections firstRun = new UserImportRejections(inputFile);
+        firstRun.open(committed);
+        firstRun.duplicate("first@example.com");
+        firstRun.onSkipInProcess(registration("bad"), new ValidationException("The email address is invalid."));
+        firstRun.update(committed);
+        // The next chunk fails before it commits
+        firstRun.duplicate("second@example.com");
+        firstRun.onSkipInProcess(registration("worse"), new ValidationException("The email address is invalid."));
+
+        UserImportRejections restart = new UserImportRejections(inputFile);
+        restart.open(committed);
+        restart.duplicate("third@example.com");
+        ExecutionContext afterRestart = new ExecutionContext();
+        restart.update(afterRestart);
+
+        assertEquals(List.of(
+                        "first@example.com," + UserImportRejections.DUPLICATE_REASON,
+                        "bad,The email address is invalid.",
+                        "third@example.com," + UserImportRejections.DUPLICATE_REASON),
+                Files.readAllLines(UserImportRejections.fileFor(inputFile)));
+        assertEquals(1, afterRestart.getLong(UserImportRejections.INVALID_ROWS_KEY));
+    }
+
+    private static RegisterUserDTO registration(String email) {
+        return new RegisterUserDTO(email, "secret", "Ada", "Reader");
+    }
+}
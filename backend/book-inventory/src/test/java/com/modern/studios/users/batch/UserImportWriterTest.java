@@ -0,0 +1,51 @@
+package com.modern.studios.users.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import com.modern.studios.users.dto.admin.UserImportResultDTO;
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+import com.modern.studios.users.service.UserImportService;
+
+/**
+ * The users created and the duplicates are counted in the step execution context and carry
+ * over into a restarted execution.
+ */
+class UserImportWriterTest {
+
+    @Test
+    void countsContinueFromCommittedContextOnRestart() {
+        UserImportService userImportService = mock(UserImportService.class);
+        UserImportRejections rejections = mock(UserImportRejections.class);
+        when(userImportService.importUsers(anyList()))
+                .thenReturn(new UserImportResultDTO(3, 2, List.of("taken@example.com")));
+
+        ExecutionContext committed = new ExecutionContext();
+        committed.putLong(UserImportWriter.CREATED_KEY, 10);
+        committed.putLong(UserImportWriter.DUPLICATES_KEY, 4);
+
+        UserImportWriter writer = new UserImportWriter(userImportService, rejections);
+        writer.open(committed);
+        writer.write(new Chunk<>(
+                registration("one@example.com"), registration("two@example.com"), registration("taken@example.com")));
+        ExecutionContext updated = new ExecutionContext();
+        writer.update(updated);
+
+        assertEquals(12, updated.getLong(UserImportWriter.CREATED_KEY));
+        assertEquals(5, updated.getLong(UserImportWriter.DUPLICATES_KEY));
+        verify(rejections).duplicate("taken@example.com");
+    }
+
+    private static RegisterUserDTO registration(String email) {
+        return new RegisterUserDTO(email, "secret", "Ada", "Reader");
+    }
+}
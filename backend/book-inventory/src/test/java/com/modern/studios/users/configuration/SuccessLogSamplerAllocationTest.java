@@ -0,0 +1,86 @@
+package com.modern.studios.users.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.modern.studios.users.controller.UserAdminController;
+
+/**
+ * Measures the bytes the logging of one successful user lookup allocates on the request thread,
+ * with every success message written and with the production sampling rate.
+ */
+class SuccessLogSamplerAllocationTest {
+
+    private static final int REQUESTS = 20_000;
+    private static final int PRODUCTION_SAMPLE_RATE = 100;
+    private static final String EMAIL = "john.doe@todolist.com";
+
+    @Test
+    void sampledSuccessLoggingAllocatesLessPerRequest() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        long unsampled = bytesPerRequest(threads, logger(null));
+        SuccessLogSampler sampler = new SuccessLogSampler();
+        sampler.setSampleRate(PRODUCTION_SAMPLE_RATE);
+        long sampled = bytesPerRequest(threads, logger(sampler));
+
+        assertTrue(sampled * 4 < unsampled,
+                "Allocated " + unsampled + " bytes per request before sampling and " + sampled + " after");
+    }
+
+    private static long bytesPerRequest(ThreadMXBean threads, Logger logger) {
+        // Warm up so class loading and JIT compilation are not counted
+        logRequests(logger);
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        logRequests(logger);
+        return (threads.getThreadAllocatedBytes(threadId) - before) / REQUESTS;
+    }
+
+    // The log calls UserAdminController.getUserByEmailId makes for one request
+    private static void logRequests(Logger logger) {
+        for (int i = 0; i < REQUESTS; i++) {
+            logger.debug("Received request to get user by email: {}", EMAIL);
+            logger.info(SuccessLogSampler.SUCCESS, "Successfully retrieved user with email: {}", EMAIL);
+        }
+    }
+
+    private static Logger logger(SuccessLogSampler sampler) {
+        LoggerContext context = new LoggerContext();
+        if (sampler != null) {
+            sampler.setContext(context);
+            sampler.start();
+            context.addTurboFilter(sampler);
+        }
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        Logger logger = context.getLogger(UserAdminController.class);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+        return logger;
+    }
+}
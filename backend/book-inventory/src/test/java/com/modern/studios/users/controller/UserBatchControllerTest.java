@@ -0,0 +1,66 @@
+package com.modern.studios.users.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.modern.studios.users.service.UserBatchService;
+
+/**
+ * The export is streamed from its file, which is deleted once the body is written, whether
+ * or not the client received all of it.
+ */
+class UserBatchControllerTest {
+
+    private static final String EXPORT = "email,first_name,last_name,created_at\nreader@example.com,Ada,Reader,2026-01-01T00:00:00Z\n";
+
+    @TempDir
+    private Path workDirectory;
+
+    private Path exportFile;
+    private UserBatchController userBatchController;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        exportFile = Files.writeString(workDirectory.resolve("users-export.csv"), EXPORT);
+        UserBatchService userBatchService = mock(UserBatchService.class);
+        when(userBatchService.exportUsers()).thenReturn(exportFile);
+        userBatchController = new UserBatchController(userBatchService);
+    }
+
+    @Test
+    void exportIsDeletedAfterBodyIsWritten() throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        userBatchController.exportUsers().getBody().writeTo(body);
+
+        assertEquals(EXPORT, body.toString(StandardCharsets.UTF_8));
+        assertFalse(Files.exists(exportFile));
+    }
+
+    @Test
+    void exportIsDeletedWhenClientGoesAway() {
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> userBatchController.exportUsers().getBody().writeTo(disconnected));
+        assertFalse(Files.exists(exportFile));
+    }
+}
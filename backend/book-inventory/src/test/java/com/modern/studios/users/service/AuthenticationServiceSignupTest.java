@@ -0,0 +1,88 @@
+package com.modern.studios.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+import com.modern.studios.users.entity.User;
+import com.modern.studios.users.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Only a violation of the users.email unique key may be reported as an email already in use;
+ * any other constraint failure has to reach the caller unchanged.
+ */
+class AuthenticationServiceSignupTest {
+
+    private static final RegisterUserDTO REGISTRATION =
+            new RegisterUserDTO("reader@example.com", "secret", "Ada", "Reader");
+
+    private UserRepository userRepository;
+    private AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        authenticationService = new AuthenticationService(
+                userRepository,
+                mock(AuthenticationManager.class),
+                passwordEncoder,
+                new PasswordHashingExecutor(1, 4, new SimpleMeterRegistry()),
+                mock(JwtService.class),
+                mock(UserCacheInvalidator.class),
+                mock(LoginAttemptLimiter.class));
+    }
+
+    @Test
+    void emailKeyViolationIsReportedAsEmailInUse() {
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violationOf("users_email_key"));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> authenticationService.signup(REGISTRATION));
+
+        assertEquals("Email address is already registered. Please use a different email.", ex.getMessage());
+    }
+
+    @Test
+    void otherConstraintViolationIsRethrown() {
+        DataIntegrityViolationException violation = violationOf("users_pkey");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation);
+
+        DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class,
+                () -> authenticationService.signup(REGISTRATION));
+
+        assertSame(violation, ex);
+    }
+
+    @Test
+    void violationWithoutConstraintNameIsRethrown() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("value too long");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> authenticationService.signup(REGISTRATION)));
+    }
+
+    private static DataIntegrityViolationException violationOf(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLException("violates constraint " + constraintName, "23505"), constraintName));
+    }
+}
@@ -0,0 +1,65 @@
+package com.modern.studios.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class LoginAttemptWindowTest {
+
+    private static final int LIMIT = 5;
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+
+    private final LoginThrottlePolicy policy = new LoginThrottlePolicy(
+            LIMIT, 20, Duration.ofMinutes(15), Duration.ofMinutes(1), Duration.ofHours(1));
+
+    @Test
+    void repeatedLockoutsBackOffUpToTheCap() {
+        long now = 0;
+        LoginAttemptWindow window = LoginAttemptWindow.empty(now);
+        List<Long> lockoutMinutes = new ArrayList<>();
+
+        for (int round = 0; round < 9; round++) {
+            // The attacker resumes as soon as the previous lockout ends
+            now = Math.max(now, window.lockedUntil());
+            window = failUntilLocked(window, now);
+            lockoutMinutes.add((window.lockedUntil() - now) / MINUTE);
+        }
+
+        assertEquals(List.of(1L, 2L, 4L, 8L, 16L, 32L, 60L, 60L, 60L), lockoutMinutes);
+    }
+
+    @Test
+    void quietPeriodAfterLockoutResetsBackoff() {
+        long now = 0;
+        LoginAttemptWindow window = LoginAttemptWindow.empty(now);
+        for (int round = 0; round < 7; round++) {
+            now = Math.max(now, window.lockedUntil());
+            window = failUntilLocked(window, now);
+        }
+        assertEquals(7, window.lockouts());
+
+        // Time spent locked out does not count as quiet
+        now = window.lockedUntil() + Duration.ofMinutes(29).toMillis();
+        assertFalse(window.isIdle(now, policy.windowMillis()));
+
+        now = window.lockedUntil() + Duration.ofMinutes(30).toMillis();
+        assertTrue(window.isIdle(now, policy.windowMillis()));
+        window = failUntilLocked(window, now);
+        assertEquals(1, window.lockouts());
+        assertEquals(MINUTE, window.lockedUntil() - now);
+    }
+
+    private LoginAttemptWindow failUntilLocked(LoginAttemptWindow window, long now) {
+        for (int attempt = 0; attempt < LIMIT && !window.isLocked(now); attempt++) {
+            window = window.recordFailure(now, LIMIT, policy);
+        }
+        assertTrue(window.isLocked(now));
+        return window;
+    }
+}
@@ -0,0 +1,101 @@
+package com.modern.studios.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.modern.studios.users.batch.UserImportRejections;
+import com.modern.studios.users.dto.admin.UserImportJobResultDTO;
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+import com.modern.studios.users.exception.UserImportAlreadyCompletedException;
+
+/**
+ * Runs the CSV import job against the database: invalid rows are skipped and registered or
+ * repeated emails reported as duplicates, each counted once in the result. The uploaded file
+ * does not outlive a completed import.
+ */
+@SpringBootTest
+class UserBatchServiceTest {
+
+    @Autowired
+    private UserBatchService userBatchService;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Value("${users.batch.work-dir}")
+    private Path workDirectory;
+
+    @Test
+    void importReportsCreatedDuplicateAndInvalidRows() {
+        String fresh = randomEmail();
+        String registered = randomEmail();
+        userImportService.importUsers(List.of(new RegisterUserDTO(registered, "secret", "Grace", "Old")));
+
+        UserImportJobResultDTO result = userBatchService.importUsers(csv(
+                fresh + ",secret,Ada,Reader",
+                "not-an-email,secret,Ada,Reader",
+                fresh + ",other-secret,Ada,Again",
+                registered + ",secret,Grace,New"));
+
+        assertEquals("COMPLETED", result.status());
+        assertEquals(4, result.rowsRead());
+        assertEquals(1, result.usersCreated());
+        assertEquals(2, result.duplicates());
+        assertEquals(1, result.invalidRows());
+        // Skipped rows are reported after the chunk is written, so only the set of lines is fixed
+        assertEquals(3, result.rejections().size());
+        assertEquals(Set.of(
+                        "not-an-email,The email address is invalid.",
+                        fresh + "," + UserImportRejections.DUPLICATE_REASON,
+                        registered + "," + UserImportRejections.DUPLICATE_REASON),
+                Set.copyOf(result.rejections()));
+    }
+
+    @Test
+    void completedImportDeletesUploadAndRejections() throws Exception {
+        MockMultipartFile csvFile = csv(randomEmail() + ",secret,Ada,Reader", "not-an-email,secret,Ada,Reader");
+        Path upload = workDirectory.resolve(HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(csvFile.getBytes())) + ".csv");
+
+        UserImportJobResultDTO result = userBatchService.importUsers(csvFile);
+
+        assertEquals("COMPLETED", result.status());
+        assertEquals(1, result.rejections().size());
+        assertFalse(Files.exists(upload));
+        assertFalse(Files.exists(UserImportRejections.fileFor(upload)));
+    }
+
+    @Test
+    void completedFileIsNotImportedAgain() {
+        String email = randomEmail();
+        userBatchService.importUsers(csv(email + ",secret,Ada,Reader"));
+
+        assertThrows(UserImportAlreadyCompletedException.class,
+                () -> userBatchService.importUsers(csv(email + ",secret,Ada,Reader")));
+    }
+
+    private static MockMultipartFile csv(String... rows) {
+        String content = "email,password,first_name,last_name\n" + String.join("\n", rows) + "\n";
+        return new MockMultipartFile("file", "users.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String randomEmail() {
+        return "batch-" + UUID.randomUUID() + "@example.com";
+    }
+}
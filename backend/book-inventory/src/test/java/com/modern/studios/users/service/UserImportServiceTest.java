@@ -0,0 +1,76 @@
+package com.modern.studios.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.modern.studios.users.dto.admin.UserImportResultDTO;
+import com.modern.studios.users.dto.register.RegisterUserDTO;
+
+/**
+ * Imports against the database, so emails already registered are skipped by the unique key
+ * and the created count comes from reading the inserted rows back.
+ */
+@SpringBootTest
+class UserImportServiceTest {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void repeatedEmailInRequestIsImportedOnce() {
+        String email = randomEmail();
+
+        UserImportResultDTO result = userImportService.importUsers(List.of(
+                new RegisterUserDTO(email, "first-secret", "Ada", "First"),
+                new RegisterUserDTO(email, "second-secret", "Ada", "Second")));
+
+        assertEquals(2, result.requested());
+        assertEquals(1, result.created());
+        assertEquals(List.of(email), result.skippedEmails());
+        assertEquals(1, countUsers(email));
+        assertEquals("First", jdbcTemplate.queryForObject(
+                "SELECT last_name FROM users WHERE email = ?", String.class, email));
+    }
+
+    @Test
+    void registeredEmailIsSkippedAndNotCounted() {
+        String registered = randomEmail();
+        String fresh = randomEmail();
+        userImportService.importUsers(List.of(new RegisterUserDTO(registered, "old-secret", "Grace", "Old")));
+
+        UserImportResultDTO result = userImportService.importUsers(List.of(
+                new RegisterUserDTO(registered, "new-secret", "Grace", "New"),
+                new RegisterUserDTO(fresh, "fresh-secret", "Alan", "Fresh")));
+
+        assertEquals(1, result.created());
+        assertEquals(List.of(registered), result.skippedEmails());
+        assertEquals(1, countUsers(registered));
+        assertTrue(passwordEncoder.matches("old-secret", jdbcTemplate.queryForObject(
+                "SELECT password FROM users WHERE email = ?", String.class, registered)));
+        assertTrue(passwordEncoder.matches("fresh-secret", jdbcTemplate.queryForObject(
+                "SELECT password FROM users WHERE email = ?", String.class, fresh)));
+    }
+
+    private int countUsers(String email) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM users WHERE email = ?", Integer.class, email);
+    }
+
+    private static String randomEmail() {
+        return "import-" + UUID.randomUUID() + "@example.com";
+    }
+}
@@ -0,0 +1,54 @@
+package com.modern.studios.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+class UserPrincipalCacheTest {
+
+    private static final String EMAIL = "jane@example.com";
+
+    private final UserPrincipalCache cache = new UserPrincipalCache(100, Duration.ofMinutes(5));
+
+    @Test
+    void cachesLoadedPrincipal() {
+        AtomicInteger loads = new AtomicInteger();
+        UserDetails principal = principal("hash-1");
+
+        cache.get(EMAIL, email -> {
+            loads.incrementAndGet();
+            return principal;
+        });
+        UserDetails second = cache.get(EMAIL, email -> {
+            loads.incrementAndGet();
+            return principal("other");
+        });
+
+        assertSame(principal, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void doesNotCacheLoadThatRacedAnEviction() {
+        // The load reads the old row, then a password reset commits and evicts before the load stores it
+        UserDetails stale = cache.get(EMAIL, email -> {
+            cache.evict(EMAIL);
+            return principal("old-hash");
+        });
+        UserDetails fresh = cache.get(EMAIL, email -> principal("new-hash"));
+
+        assertEquals("old-hash", stale.getPassword());
+        assertEquals("new-hash", fresh.getPassword());
+    }
+
+    private static UserDetails principal(String passwordHash) {
+        return new User(EMAIL, passwordHash, List.of());
+    }
+}